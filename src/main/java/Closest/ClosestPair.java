@@ -2,11 +2,13 @@ package Closest;
 
 import org.Util.MetricsTracker;
 
-import java.util.Arrays;
-
 /**
  * ClosestPair (2D points) with divide-and-conquer, O(n log n).
  * Sorts points by x, splits, and checks a strip with y-order (7–8 neighbors).
+ * Each level merges its y-sorted halves (as in MergeSort) instead of re-sorting the strip;
+ * merge and strip share one scratch buffer, so a call makes a constant number of allocations.
+ * A structure-of-arrays entry point (double[] xs, ys) avoids Point objects entirely.
+ * The findPair variants also report which two input indices realise the distance.
  */
 public class ClosestPair {
 
@@ -27,81 +29,220 @@ public class ClosestPair {
         }
     }
 
+    /**
+     * Result of a closest-pair search: two input indices (first &lt; second) and their distance.
+     */
+    public static final class Pair {
+        public final int first, second;
+        public final double distance;
+
+        public Pair(int first, int second, double distance) {
+            this.first = Math.min(first, second);
+            this.second = Math.max(first, second);
+            this.distance = distance;
+        }
+
+        @Override
+        public String toString() {
+            return "Pair(" + first + ", " + second + ", " + distance + ")";
+        }
+    }
+
     /**
      * Entry point.
      */
     public static double findClosestPair(Point[] points, MetricsTracker tracker) {
+        return findPair(points, tracker).distance;
+    }
+
+    /**
+     * Closest pair with its indices into points, found in the same pass.
+     * Works on an index array sorted by x, so the input is left untouched.
+     */
+    public static Pair findPair(Point[] points, MetricsTracker tracker) {
         if (points == null || points.length < 2) {
             throw new IllegalArgumentException("At least 2 points required");
         }
 
         tracker.start();
-        Point[] pointsByX = points.clone();
+        int n = points.length;
+        int[] ids = new int[n];
+        tracker.incAllocation();
+        for (int i = 0; i < n; i++) ids[i] = i;
+
+        int[] buffer = new int[n]; // sort/merge scratch and strip, shared by all levels
         tracker.incAllocation();
-        Arrays.sort(pointsByX); // sort by x
+        sortByX(points, ids, buffer, 0, n - 1);
+
+        Best best = new Best(Double.POSITIVE_INFINITY);
+        recursive(points, ids, buffer, 0, n - 1, best, tracker);
+        tracker.stop();
+        return new Pair(best.first, best.second, best.d);
+    }
+
+    /**
+     * Structure-of-arrays entry point: point i is (xs[i], ys[i]).
+     * Works on coordinate copies (no Point objects), compares squared distances
+     * and takes a single sqrt at the end.
+     */
+    public static double findClosestPair(double[] xs, double[] ys, MetricsTracker tracker) {
+        return findPair(xs, ys, tracker).distance;
+    }
+
+    /**
+     * Structure-of-arrays closest pair with its indices into xs/ys.
+     */
+    public static Pair findPair(double[] xs, double[] ys, MetricsTracker tracker) {
+        if (xs == null || ys == null || xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys must have the same length");
+        }
+        if (xs.length < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+
+        tracker.start();
+        int n = xs.length;
+        double[] px = xs.clone(), py = ys.clone();
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = i;
+        double[] bx = new double[n], by = new double[n]; // merge scratch and strip, shared by all levels
+        int[] bids = new int[n];
+        for (int i = 0; i < 6; i++) tracker.incAllocation();
 
-        double result = recursive(pointsByX, 0, pointsByX.length - 1, tracker);
+        sortByX(px, py, ids, bx, by, bids, 0, n - 1);
+        Best best = new Best(Double.POSITIVE_INFINITY);
+        recursiveSquared(px, py, ids, bx, by, bids, 0, n - 1, best, tracker);
         tracker.stop();
-        return result;
+        return new Pair(best.first, best.second, Math.sqrt(best.d));
     }
 
     /**
-     * Recursive helper.
+     * Recursive helper. On return ids[left..right] is sorted by y.
+     * Pairs are checked against the best distance found so far (never larger than
+     * min(dLeft, dRight)), so the strip is at most as wide as in the textbook version.
      * T(n) = 2T(n/2) + O(n) → Θ(n log n).
      */
-    private static double recursive(Point[] pts, int left, int right, MetricsTracker tracker) {
+    static void recursive(Point[] points, int[] ids, int[] buffer, int left, int right,
+                          Best best, MetricsTracker tracker) {
         tracker.enterRecursion();
         try {
             int n = right - left + 1;
             if (n <= 3) {
-                return bruteForce(pts, left, right, tracker);
+                bruteForce(points, ids, left, right, best, tracker);
+                insertionSortByY(points, ids, left, right);
+                return;
             }
 
             int mid = (left + right) / 2;
-            double midX = pts[mid].x;
+            double midX = points[ids[mid]].x;
 
-            double dLeft = recursive(pts, left, mid, tracker);
-            double dRight = recursive(pts, mid + 1, right, tracker);
-            double d = Math.min(dLeft, dRight);
+            recursive(points, ids, buffer, left, mid, best, tracker);
+            recursive(points, ids, buffer, mid + 1, right, best, tracker);
 
-            // Build strip
-            Point[] strip = new Point[n];
-            tracker.incAllocation();
-            int stripSize = 0;
-            for (int i = left; i <= right; i++) {
-                if (Math.abs(pts[i].x - midX) < d) {
-                    strip[stripSize++] = pts[i];
-                }
+            mergeByY(points, ids, buffer, left, mid, right);
+            scanStrip(points, ids, buffer, left, right, midX, best, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Checks pairs straddling x = midX. ids[left..right] must be sorted by y;
+     * the strip is built in buffer[left..], so it stays in y-order.
+     */
+    static void scanStrip(Point[] points, int[] ids, int[] buffer, int left, int right, double midX,
+                          Best best, MetricsTracker tracker) {
+        double d = best.d;
+        int stripSize = 0;
+        for (int i = left; i <= right; i++) {
+            if (Math.abs(points[ids[i]].x - midX) < d) {
+                buffer[left + stripSize++] = ids[i];
+            }
+        }
+
+        // Scan neighbors (≤ 7–8)
+        for (int i = left; i < left + stripSize; i++) {
+            Point a = points[buffer[i]];
+            for (int j = i + 1; j < left + stripSize && (points[buffer[j]].y - a.y) < best.d && (j - i) < 8; j++) {
+                tracker.incComparison();
+                best.offer(distance(a, points[buffer[j]]), buffer[i], buffer[j]);
             }
+        }
+    }
 
-            Arrays.sort(strip, 0, stripSize, (a, b) -> Double.compare(a.y, b.y));
+    /**
+     * Stable merge sort of ids by x, through buffer.
+     */
+    static void sortByX(Point[] points, int[] ids, int[] buffer, int low, int high) {
+        if (high - low < 16) {
+            insertionSortByX(points, ids, low, high);
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        sortByX(points, ids, buffer, low, mid);
+        sortByX(points, ids, buffer, mid + 1, high);
+        if (points[ids[mid]].x <= points[ids[mid + 1]].x) return; // already in order
+        System.arraycopy(ids, low, buffer, low, high - low + 1);
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) ids[k] = buffer[j++];
+            else if (j > high) ids[k] = buffer[i++];
+            else if (points[buffer[j]].x < points[buffer[i]].x) ids[k] = buffer[j++];
+            else ids[k] = buffer[i++];
+        }
+    }
 
-            // Scan neighbors (≤ 7–8)
-            for (int i = 0; i < stripSize; i++) {
-                for (int j = i + 1; j < stripSize && (strip[j].y - strip[i].y) < d && (j - i) < 8; j++) {
-                    tracker.incComparison();
-                    d = Math.min(d, distance(strip[i], strip[j]));
-                }
+    /**
+     * Merges the y-sorted runs ids[left..mid] and ids[mid+1..right] through buffer.
+     */
+    private static void mergeByY(Point[] points, int[] ids, int[] buffer, int left, int mid, int right) {
+        if (points[ids[mid]].y <= points[ids[mid + 1]].y) return; // already in order
+        System.arraycopy(ids, left, buffer, left, right - left + 1);
+        int i = left, j = mid + 1;
+        for (int k = left; k <= right; k++) {
+            if (i > mid) ids[k] = buffer[j++];
+            else if (j > right) ids[k] = buffer[i++];
+            else if (points[buffer[j]].y < points[buffer[i]].y) ids[k] = buffer[j++];
+            else ids[k] = buffer[i++];
+        }
+    }
+
+    private static void insertionSortByX(Point[] points, int[] ids, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int id = ids[i];
+            double key = points[id].x;
+            int j = i - 1;
+            while (j >= low && points[ids[j]].x > key) {
+                ids[j + 1] = ids[j];
+                j--;
             }
+            ids[j + 1] = id;
+        }
+    }
 
-            return d;
-        } finally {
-            tracker.exitRecursion();
+    private static void insertionSortByY(Point[] points, int[] ids, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int id = ids[i];
+            double key = points[id].y;
+            int j = i - 1;
+            while (j >= low && points[ids[j]].y > key) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
         }
     }
 
     /**
      * Brute force for small sets (≤ 3 points).
      */
-    private static double bruteForce(Point[] pts, int low, int high, MetricsTracker tracker) {
-        double min = Double.POSITIVE_INFINITY;
+    private static void bruteForce(Point[] points, int[] ids, int low, int high, Best best, MetricsTracker tracker) {
         for (int i = low; i <= high; i++) {
             for (int j = i + 1; j <= high; j++) {
                 tracker.incComparison();
-                min = Math.min(min, distance(pts[i], pts[j]));
+                best.offer(distance(points[ids[i]], points[ids[j]]), ids[i], ids[j]);
             }
         }
-        return (min == Double.POSITIVE_INFINITY) ? 0.0 : min;
     }
 
     /**
@@ -112,4 +253,151 @@ public class ClosestPair {
         double dy = a.y - b.y;
         return Math.sqrt(dx * dx + dy * dy);
     }
+
+    /**
+     * SoA recursive helper on squared distances. On return [left..right] is sorted by y.
+     */
+    private static void recursiveSquared(double[] px, double[] py, int[] ids, double[] bx, double[] by, int[] bids,
+                                         int left, int right, Best best, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            int n = right - left + 1;
+            if (n <= 3) {
+                for (int i = left; i <= right; i++) {
+                    for (int j = i + 1; j <= right; j++) {
+                        tracker.incComparison();
+                        best.offer(squaredDistance(px, py, i, j), ids[i], ids[j]);
+                    }
+                }
+                insertionSortByY(px, py, ids, left, right);
+                return;
+            }
+
+            int mid = (left + right) / 2;
+            double midX = px[mid];
+
+            recursiveSquared(px, py, ids, bx, by, bids, left, mid, best, tracker);
+            recursiveSquared(px, py, ids, bx, by, bids, mid + 1, right, best, tracker);
+
+            merge(py, px, ids, by, bx, bids, left, mid, right);
+
+            double d2 = best.d;
+            int stripSize = 0;
+            for (int i = left; i <= right; i++) {
+                double dx = px[i] - midX;
+                if (dx * dx < d2) {
+                    bx[left + stripSize] = px[i];
+                    by[left + stripSize] = py[i];
+                    bids[left + stripSize] = ids[i];
+                    stripSize++;
+                }
+            }
+
+            for (int i = left; i < left + stripSize; i++) {
+                for (int j = i + 1; j < left + stripSize && (j - i) < 8; j++) {
+                    double dy = by[j] - by[i];
+                    if (dy * dy >= best.d) break;
+                    tracker.incComparison();
+                    best.offer(squaredDistance(bx, by, i, j), bids[i], bids[j]);
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Co-sorts (px, py, ids) by x: top-down merge sort through the scratch arrays.
+     */
+    private static void sortByX(double[] px, double[] py, int[] ids, double[] bx, double[] by, int[] bids,
+                                int low, int high) {
+        if (high - low < 16) {
+            insertionSortByX(px, py, ids, low, high);
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        sortByX(px, py, ids, bx, by, bids, low, mid);
+        sortByX(px, py, ids, bx, by, bids, mid + 1, high);
+        merge(px, py, ids, bx, by, bids, low, mid, high);
+    }
+
+    /**
+     * Merges runs [left..mid] and [mid+1..right], ordered by key[], moving other[] and ids[] along.
+     */
+    private static void merge(double[] key, double[] other, int[] ids, double[] keyBuf, double[] otherBuf,
+                              int[] idBuf, int left, int mid, int right) {
+        if (key[mid] <= key[mid + 1]) return; // already in order
+        int len = right - left + 1;
+        System.arraycopy(key, left, keyBuf, left, len);
+        System.arraycopy(other, left, otherBuf, left, len);
+        System.arraycopy(ids, left, idBuf, left, len);
+        int i = left, j = mid + 1;
+        for (int k = left; k <= right; k++) {
+            int from = (i > mid || (j <= right && keyBuf[j] < keyBuf[i])) ? j++ : i++;
+            key[k] = keyBuf[from];
+            other[k] = otherBuf[from];
+            ids[k] = idBuf[from];
+        }
+    }
+
+    private static void insertionSortByX(double[] px, double[] py, int[] ids, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double x = px[i], y = py[i];
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= low && px[j] > x) {
+                px[j + 1] = px[j];
+                py[j + 1] = py[j];
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            px[j + 1] = x;
+            py[j + 1] = y;
+            ids[j + 1] = id;
+        }
+    }
+
+    private static void insertionSortByY(double[] px, double[] py, int[] ids, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double x = px[i], y = py[i];
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= low && py[j] > y) {
+                px[j + 1] = px[j];
+                py[j + 1] = py[j];
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            px[j + 1] = x;
+            py[j + 1] = y;
+            ids[j + 1] = id;
+        }
+    }
+
+    private static double squaredDistance(double[] xs, double[] ys, int i, int j) {
+        double dx = xs[i] - xs[j];
+        double dy = ys[i] - ys[j];
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Running best: smallest distance seen so far and the index pair realising it.
+     * Starting from a finite bound d prunes with it; first stays -1 until a pair below it is found.
+     */
+    static final class Best {
+        double d;
+        int first = -1, second = -1;
+
+        Best(double d) {
+            this.d = d;
+        }
+
+        void offer(double dist, int a, int b) {
+            if (dist < d) {
+                d = dist;
+                first = a;
+                second = b;
+            }
+        }
+    }
 }
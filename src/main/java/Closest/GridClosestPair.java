@@ -0,0 +1,170 @@
+package Closest;
+
+import Closest.ClosestPair.Pair;
+import Closest.ClosestPair.Point;
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Randomized ClosestPair with grid hashing (Rabin / Khuller–Matias), expected O(n).
+ * Features:
+ *  - Points inserted in random order into a hash grid whose cell size is the current best distance
+ *  - Each new point probes only its 3×3 cell neighbourhood (≤ 4 points per cell)
+ *  - Grid rebuilt only when the best distance shrinks; the i-th point does so with probability ≤ 2/i
+ *  - Open-addressing table and per-point chains in flat arrays allocated once
+ *  - Shuffles an index array, so the closest pair is reported by input index
+ *  - Grid rebuilds reported as passes, distance probes as comparisons in MetricsTracker
+ */
+public class GridClosestPair {
+
+    /**
+     * Entry point: same contract as {@link ClosestPair#findClosestPair}.
+     */
+    public static double findClosestPair(Point[] points, MetricsTracker tracker) {
+        return findPair(points, tracker).distance;
+    }
+
+    /**
+     * Closest pair with its indices into points: same contract as {@link ClosestPair#findPair}.
+     */
+    public static Pair findPair(Point[] points, MetricsTracker tracker) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+
+        tracker.start();
+        int n = points.length;
+        int[] order = new int[n];
+        tracker.incAllocation();
+        for (int i = 0; i < n; i++) order[i] = i;
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        for (int i = n - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        tracker.incComparison();
+        double d = distance(points[order[0]], points[order[1]]);
+        int first = order[0], second = order[1];
+        if (d > 0) {
+            Grid grid = new Grid(points, order, tracker);
+            grid.rebuild(d, 2);
+            for (int i = 2; i < n; i++) {
+                double nearest = grid.nearest(points[order[i]]);
+                if (nearest < d) {
+                    d = nearest;
+                    first = grid.nearestIndex;
+                    second = order[i];
+                    if (d == 0) break; // duplicates: cannot get closer
+                    grid.rebuild(d, i + 1);
+                } else {
+                    grid.insert(i);
+                }
+            }
+        }
+
+        tracker.stop();
+        return new Pair(first, second, d);
+    }
+
+    /**
+     * Euclidean distance.
+     */
+    private static double distance(Point a, Point b) {
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Hash grid over points[order[0..]]: open-addressing table of occupied cells, each heading
+     * a chain of positions in order linked through next[].
+     */
+    private static final class Grid {
+        private final Point[] points;
+        private final int[] order;
+        private final MetricsTracker tracker;
+        private final long[] cellX, cellY;
+        private final int[] head, next;
+        private final int mask;
+        private double cellSize;
+        int nearestIndex; // input index found by the last nearest() call
+
+        Grid(Point[] points, int[] order, MetricsTracker tracker) {
+            this.points = points;
+            this.order = order;
+            this.tracker = tracker;
+            int capacity = Integer.highestOneBit(2 * points.length - 1) << 1; // load factor ≤ 1/2
+            this.cellX = new long[capacity];
+            this.cellY = new long[capacity];
+            this.head = new int[capacity];
+            this.next = new int[points.length];
+            this.mask = capacity - 1;
+            tracker.incAllocation();
+        }
+
+        /**
+         * Clears the grid and re-inserts order[0..count-1] with the new cell size.
+         */
+        void rebuild(double cellSize, int count) {
+            this.cellSize = cellSize;
+            Arrays.fill(head, -1);
+            for (int i = 0; i < count; i++) insert(i);
+            tracker.incPass();
+        }
+
+        void insert(int i) {
+            Point p = points[order[i]];
+            long cx = cell(p.x), cy = cell(p.y);
+            int slot = find(cx, cy);
+            if (head[slot] == -1) {
+                cellX[slot] = cx;
+                cellY[slot] = cy;
+            }
+            next[i] = head[slot];
+            head[slot] = i;
+        }
+
+        /**
+         * Smallest distance from p to a point in its 3×3 cell neighbourhood (infinity if none);
+         * the input index of that point is left in nearestIndex.
+         */
+        double nearest(Point p) {
+            long cx = cell(p.x), cy = cell(p.y);
+            double best = Double.POSITIVE_INFINITY;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int j = head[find(cx + dx, cy + dy)]; j != -1; j = next[j]) {
+                        tracker.incComparison();
+                        double dist = distance(p, points[order[j]]);
+                        if (dist < best) {
+                            best = dist;
+                            nearestIndex = order[j];
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private long cell(double v) {
+            return (long) Math.floor(v / cellSize);
+        }
+
+        /**
+         * Slot holding cell (cx, cy), or the empty slot where it would go (linear probing).
+         */
+        private int find(long cx, long cy) {
+            long h = (cx * 0x9E3779B97F4A7C15L + cy) * 0xC2B2AE3D27D4EB4FL;
+            int slot = (int) (h >>> 32) & mask;
+            while (head[slot] != -1 && (cellX[slot] != cx || cellY[slot] != cy)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
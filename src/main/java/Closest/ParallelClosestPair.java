@@ -0,0 +1,288 @@
+package Closest;
+
+import Closest.ClosestPair.Best;
+import Closest.ClosestPair.Pair;
+import Closest.ClosestPair.Point;
+import org.Util.MetricsTracker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parallel divide-and-conquer ClosestPair on the common ForkJoinPool.
+ * Features:
+ *  - Index array sorted by x with a forked merge sort, then halves solved as forked RecursiveTasks
+ *  - Below the threshold falls back to {@link ClosestPair}'s sequential recursion
+ *  - Lock-free shared bound (AtomicLong of double bits, CAS-min): every subtree and strip
+ *    prunes with the best distance found anywhere so far
+ *  - Top-level merges by x and y split at the median of the longer run, so they also run in parallel
+ *  - Same splits, merges and distance function as the sequential engine → identical distance
+ *  - Per-task MetricsTracker folded into the parent on join (no shared counters)
+ */
+public class ParallelClosestPair {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 13; // sequential cutoff (points)
+
+    /**
+     * Entry point with the default sequential threshold: same contract as {@link ClosestPair#findClosestPair}.
+     */
+    public static double findClosestPair(Point[] points, MetricsTracker tracker) {
+        return findPair(points, DEFAULT_THRESHOLD, tracker).distance;
+    }
+
+    /**
+     * Entry point.
+     * @param threshold ranges at most this long are solved sequentially
+     */
+    public static double findClosestPair(Point[] points, int threshold, MetricsTracker tracker) {
+        return findPair(points, threshold, tracker).distance;
+    }
+
+    /**
+     * Closest pair with its input indices, default threshold: same contract as {@link ClosestPair#findPair}.
+     */
+    public static Pair findPair(Point[] points, MetricsTracker tracker) {
+        return findPair(points, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Closest pair with its input indices. On ties any pair realising the distance may be reported.
+     * @param threshold ranges at most this long are solved sequentially
+     */
+    public static Pair findPair(Point[] points, int threshold, MetricsTracker tracker) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+
+        tracker.start();
+        int n = points.length;
+        int[] ids = new int[n];
+        tracker.incAllocation();
+        for (int i = 0; i < n; i++) ids[i] = i;
+        int[] buffer = new int[n]; // sort/merge scratch and strips, each task owns a disjoint range
+        tracker.incAllocation();
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        pool.invoke(new SortTask(points, ids, buffer, 0, n - 1, threshold));
+        AtomicLong bound = new AtomicLong(Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+        PairTask root = new PairTask(points, ids, buffer, 0, n - 1, threshold, bound, tracker);
+        pool.invoke(root);
+        tracker.stop();
+        return new Pair(root.best.first, root.best.second, root.best.d);
+    }
+
+    /**
+     * Lowers the shared bound to d unless it is already smaller.
+     * Non-negative doubles order like their bit patterns, so the CAS loop works on longs.
+     */
+    private static void publish(AtomicLong bound, double d) {
+        long bits = Double.doubleToLongBits(d);
+        long current;
+        while (bits < (current = bound.get()) && !bound.compareAndSet(current, bits)) {
+            // lost the race to another task: re-read and retry
+        }
+    }
+
+    private static double read(AtomicLong bound) {
+        return Double.longBitsToDouble(bound.get());
+    }
+
+    /**
+     * Solves ids[low..high] (sorted by x); on return the range is sorted by y and best holds its
+     * closest pair, or first = -1 if nothing beat the shared bound. Returns best.d.
+     */
+    private static final class PairTask extends RecursiveTask<Double> {
+        private final Point[] points;
+        private final int[] ids, buffer;
+        private final int low, high, threshold;
+        private final AtomicLong bound;
+        private final MetricsTracker tracker;
+        Best best;
+
+        PairTask(Point[] points, int[] ids, int[] buffer, int low, int high, int threshold,
+                 AtomicLong bound, MetricsTracker tracker) {
+            this.points = points;
+            this.ids = ids;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.bound = bound;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected Double compute() {
+            if (high - low < threshold) {
+                best = new Best(read(bound));
+                ClosestPair.recursive(points, ids, buffer, low, high, best, tracker);
+                publish(bound, best.d);
+                return best.d;
+            }
+
+            tracker.enterRecursion();
+            try {
+                int mid = (low + high) / 2;
+                double midX = points[ids[mid]].x;
+
+                MetricsTracker leftTracker = new MetricsTracker();
+                MetricsTracker rightTracker = new MetricsTracker();
+                PairTask leftTask = new PairTask(points, ids, buffer, low, mid, threshold, bound, leftTracker);
+                PairTask rightTask = new PairTask(points, ids, buffer, mid + 1, high, threshold, bound, rightTracker);
+                invokeAll(leftTask, rightTask);
+                tracker.mergeFrom(leftTracker);
+                tracker.mergeFrom(rightTracker);
+                double d = Math.min(leftTask.join(), rightTask.join());
+                best = better(leftTask.best, rightTask.best);
+
+                if (points[ids[mid]].y > points[ids[mid + 1]].y) {
+                    System.arraycopy(ids, low, buffer, low, high - low + 1);
+                    new MergeTask(points, buffer, low, mid, mid + 1, high, ids, low, true, threshold).invoke();
+                }
+
+                Best strip = new Best(Math.min(d, read(bound)));
+                ClosestPair.scanStrip(points, ids, buffer, low, high, midX, strip, tracker);
+                best = better(best, strip);
+                publish(bound, best.d);
+                return best.d;
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+
+        /**
+         * The Best that holds an actual pair with the smaller distance (a on ties).
+         */
+        private static Best better(Best a, Best b) {
+            if (b.first < 0) return a;
+            if (a.first < 0) return b;
+            return b.d < a.d ? b : a;
+        }
+    }
+
+    /**
+     * Stable sort of ids[low..high] by x: forks both halves, then merges them through buffer.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final Point[] points;
+        private final int[] ids, buffer;
+        private final int low, high, threshold;
+
+        SortTask(Point[] points, int[] ids, int[] buffer, int low, int high, int threshold) {
+            this.points = points;
+            this.ids = ids;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                ClosestPair.sortByX(points, ids, buffer, low, high);
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            invokeAll(new SortTask(points, ids, buffer, low, mid, threshold),
+                    new SortTask(points, ids, buffer, mid + 1, high, threshold));
+            if (points[ids[mid]].x <= points[ids[mid + 1]].x) return; // already in order
+
+            System.arraycopy(ids, low, buffer, low, high - low + 1);
+            new MergeTask(points, buffer, low, mid, mid + 1, high, ids, low, false, threshold).invoke();
+        }
+    }
+
+    /**
+     * Merges src[lo1..hi1] and src[lo2..hi2] (sorted by x, or by y if byY) into dst starting at dstLow.
+     * Splits at the median of the longer run and binary-searches its position in the other,
+     * so both halves of the output can be produced independently (stable: ties go to run 1).
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final Point[] points;
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, dstLow, threshold;
+        private final boolean byY;
+
+        MergeTask(Point[] points, int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int dstLow,
+                  boolean byY, int threshold) {
+            this.points = points;
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dstLow = dstLow;
+            this.byY = byY;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1, n2 = hi2 - lo2 + 1;
+            if (n1 == 0 || n2 == 0 || n1 + n2 <= Math.max(threshold, 2)) {
+                mergeSequential();
+                return;
+            }
+
+            int split1, split2;
+            if (n1 >= n2) {
+                split1 = lo1 + n1 / 2;
+                split2 = lowerBound(lo2, hi2, key(src[split1])); // run-2 elements < pivot
+            } else {
+                split2 = lo2 + n2 / 2;
+                split1 = upperBound(lo1, hi1, key(src[split2])); // run-1 elements <= pivot
+            }
+            int dstSplit = dstLow + (split1 - lo1) + (split2 - lo2);
+
+            invokeAll(new MergeTask(points, src, lo1, split1 - 1, lo2, split2 - 1, dst, dstLow, byY, threshold),
+                    new MergeTask(points, src, split1, hi1, split2, hi2, dst, dstSplit, byY, threshold));
+        }
+
+        private void mergeSequential() {
+            int i = lo1, j = lo2, k = dstLow;
+            while (i <= hi1 && j <= hi2) {
+                dst[k++] = key(src[j]) < key(src[i]) ? src[j++] : src[i++];
+            }
+            while (i <= hi1) dst[k++] = src[i++];
+            while (j <= hi2) dst[k++] = src[j++];
+        }
+
+        private double key(int id) {
+            return byY ? points[id].y : points[id].x;
+        }
+
+        /**
+         * First index in src[low..high] whose key is >= key (high + 1 if none).
+         */
+        private int lowerBound(int low, int high, double key) {
+            int lo = low, hi = high + 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (key(src[mid]) < key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * First index in src[low..high] whose key is > key (high + 1 if none).
+         */
+        private int upperBound(int low, int high, double key) {
+            int lo = low, hi = high + 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (key(src[mid]) <= key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -36,25 +36,25 @@ public class Main {
 
     public static void runAlgorithms(int size, String csvPath) {
         Random rand = new Random();
-        Integer[] baseArr = rand.ints(size, 0, 10000).boxed().toArray(Integer[]::new);
+        int[] baseArr = rand.ints(size, 0, 10000).toArray();
 
         MetricsTracker tracker = new MetricsTracker();
 
         // --- MergeSort ---
         tracker.reset();
-        Integer[] mergeArr = baseArr.clone();
+        int[] mergeArr = baseArr.clone();
         MergeSort.sort(mergeArr, tracker);
         writeMetrics(tracker, csvPath, size, "MergeSort");
 
         // --- QuickSort ---
         tracker.reset();
-        Integer[] quickArr = baseArr.clone();
+        int[] quickArr = baseArr.clone();
         QuickSort.sort(quickArr, tracker);
         writeMetrics(tracker, csvPath, size, "QuickSort");
 
         // --- Deterministic Select (median) ---
         tracker.reset();
-        Integer[] selectArr = baseArr.clone();
+        int[] selectArr = baseArr.clone();
         int k = size / 2;
         DeterministicSelect.select(selectArr, k, tracker);
         writeMetrics(tracker, csvPath, size, "DeterministicSelect");
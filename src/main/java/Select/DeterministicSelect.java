@@ -1,11 +1,17 @@
 package Select;
 
+import org.Util.BlockPartition;
 import org.Util.MetricsTracker;
 import org.Util.PartitionUtil;
 
+import java.util.Arrays;
+
 /**
  * DeterministicSelect (Median-of-Medians).
  * O(n) worst-case selection algorithm.
+ * Primitive int/long/double overloads avoid boxing.
+ * No heap allocation after entry in select: medians are gathered in place, partition bounds are packed in a long.
+ * selectMany computes several ranks in one pass, sharing partitions across ranks.
  */
 public class DeterministicSelect {
 
@@ -28,6 +34,89 @@ public class DeterministicSelect {
         return result;
     }
 
+    /**
+     * Finds the k-th smallest element (0-based) in a primitive int array.
+     */
+    public static int select(int[] arr, int k, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        int result = selectRecursive(arr, 0, arr.length - 1, k, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based) in a primitive long array.
+     */
+    public static long select(long[] arr, int k, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        long result = selectRecursive(arr, 0, arr.length - 1, k, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based) in a primitive double array.
+     * Ordering follows {@link Double#compare} (same as boxed Double).
+     */
+    public static double select(double[] arr, int k, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        double result = selectRecursive(arr, 0, arr.length - 1, k, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds several order statistics (0-based ranks) of the same array in one pass.
+     * Partitioning work is shared across ranks; the array is reordered in place.
+     * @param arr input array
+     * @param ranks requested ranks, any order, duplicates allowed
+     * @param tracker metrics tracker
+     * @return result[i] = ranks[i]-th smallest element
+     */
+    public static <T extends Comparable<T>> T[] selectMany(T[] arr, int[] ranks, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        int[] sorted = sortedRanks(ranks, arr.length, tracker);
+
+        tracker.start();
+        selectManyRecursive(arr, 0, arr.length - 1, sorted, 0, sorted.length - 1, tracker);
+        T[] result = Arrays.copyOf(arr, ranks.length);
+        tracker.incAllocation();
+        for (int i = 0; i < ranks.length; i++) result[i] = arr[ranks[i]];
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds several order statistics (0-based ranks) of a primitive int array in one pass.
+     */
+    public static int[] selectMany(int[] arr, int[] ranks, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        int[] sorted = sortedRanks(ranks, arr.length, tracker);
+
+        tracker.start();
+        selectManyRecursive(arr, 0, arr.length - 1, sorted, 0, sorted.length - 1, tracker);
+        int[] result = new int[ranks.length];
+        tracker.incAllocation();
+        for (int i = 0; i < ranks.length; i++) result[i] = arr[ranks[i]];
+        tracker.stop();
+        return result;
+    }
+
     /**
      * Recursive helper with smaller-side recursion strategy.
      * T(n) = T(n/5) + T(7n/10) + O(n) → Θ(n).
@@ -39,9 +128,9 @@ public class DeterministicSelect {
         try {
             while (low < high) {
                 T pivot = medianOfMedians(arr, low, high, tracker);
-                int[] bounds = threeWayPartition(arr, low, high, pivot, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
 
-                int lt = bounds[0], gt = bounds[1];
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
                 int lessSize = lt - low;
                 int eqSize = gt - lt + 1;
 
@@ -71,10 +160,206 @@ public class DeterministicSelect {
         }
     }
 
+    private static int selectRecursive(int[] arr, int low, int high, int k, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                int pivot = medianOfMedians(arr, low, high, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
+
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+                int lessSize = lt - low;
+                int eqSize = gt - lt + 1;
+
+                if (k < lessSize) {
+                    if (lessSize <= (high - low + 1) - lessSize) {
+                        return selectRecursive(arr, low, lt - 1, k, tracker);
+                    } else {
+                        high = lt - 1;
+                    }
+                } else if (k < lessSize + eqSize) {
+                    return pivot;
+                } else {
+                    int greaterSize = high - gt;
+                    if (greaterSize <= (high - low + 1) - greaterSize) {
+                        return selectRecursive(arr, gt + 1, high, k - lessSize - eqSize, tracker);
+                    } else {
+                        low = gt + 1;
+                        k -= (lessSize + eqSize);
+                    }
+                }
+            }
+            return arr[low];
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static long selectRecursive(long[] arr, int low, int high, int k, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                long pivot = medianOfMedians(arr, low, high, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
+
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+                int lessSize = lt - low;
+                int eqSize = gt - lt + 1;
+
+                if (k < lessSize) {
+                    if (lessSize <= (high - low + 1) - lessSize) {
+                        return selectRecursive(arr, low, lt - 1, k, tracker);
+                    } else {
+                        high = lt - 1;
+                    }
+                } else if (k < lessSize + eqSize) {
+                    return pivot;
+                } else {
+                    int greaterSize = high - gt;
+                    if (greaterSize <= (high - low + 1) - greaterSize) {
+                        return selectRecursive(arr, gt + 1, high, k - lessSize - eqSize, tracker);
+                    } else {
+                        low = gt + 1;
+                        k -= (lessSize + eqSize);
+                    }
+                }
+            }
+            return arr[low];
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static double selectRecursive(double[] arr, int low, int high, int k, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                double pivot = medianOfMedians(arr, low, high, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
+
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+                int lessSize = lt - low;
+                int eqSize = gt - lt + 1;
+
+                if (k < lessSize) {
+                    if (lessSize <= (high - low + 1) - lessSize) {
+                        return selectRecursive(arr, low, lt - 1, k, tracker);
+                    } else {
+                        high = lt - 1;
+                    }
+                } else if (k < lessSize + eqSize) {
+                    return pivot;
+                } else {
+                    int greaterSize = high - gt;
+                    if (greaterSize <= (high - low + 1) - greaterSize) {
+                        return selectRecursive(arr, gt + 1, high, k - lessSize - eqSize, tracker);
+                    } else {
+                        low = gt + 1;
+                        k -= (lessSize + eqSize);
+                    }
+                }
+            }
+            return arr[low];
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Multi-select over [low..high]: places arr[r] for every rank r in sorted[rLow..rHigh].
+     * After each partition only the sides that still hold requested ranks are visited.
+     */
+    private static <T extends Comparable<T>> void selectManyRecursive(
+            T[] arr, int low, int high, int[] sorted, int rLow, int rHigh, MetricsTracker tracker) {
+
+        tracker.enterRecursion();
+        try {
+            while (rLow <= rHigh && low < high) {
+                T pivot = medianOfMedians(arr, low, high, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                // ranks in [rLow..split1-1] lie left of lt, ranks in [split2..rHigh] right of gt
+                int split1 = lowerBound(sorted, rLow, rHigh, lt);
+                int split2 = lowerBound(sorted, split1, rHigh, gt + 1);
+
+                if (split1 - rLow <= rHigh - split2 + 1) {
+                    selectManyRecursive(arr, low, lt - 1, sorted, rLow, split1 - 1, tracker);
+                    low = gt + 1;
+                    rLow = split2;
+                } else {
+                    selectManyRecursive(arr, gt + 1, high, sorted, split2, rHigh, tracker);
+                    high = lt - 1;
+                    rHigh = split1 - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void selectManyRecursive(int[] arr, int low, int high, int[] sorted, int rLow, int rHigh,
+                                            MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (rLow <= rHigh && low < high) {
+                int pivot = medianOfMedians(arr, low, high, tracker);
+                long bounds = threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                // ranks in [rLow..split1-1] lie left of lt, ranks in [split2..rHigh] right of gt
+                int split1 = lowerBound(sorted, rLow, rHigh, lt);
+                int split2 = lowerBound(sorted, split1, rHigh, gt + 1);
+
+                if (split1 - rLow <= rHigh - split2 + 1) {
+                    selectManyRecursive(arr, low, lt - 1, sorted, rLow, split1 - 1, tracker);
+                    low = gt + 1;
+                    rLow = split2;
+                } else {
+                    selectManyRecursive(arr, gt + 1, high, sorted, split2, rHigh, tracker);
+                    high = lt - 1;
+                    rHigh = split1 - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Validated, sorted copy of the requested ranks.
+     */
+    private static int[] sortedRanks(int[] ranks, int n, MetricsTracker tracker) {
+        if (ranks == null) {
+            throw new IllegalArgumentException("ranks must not be null");
+        }
+        int[] sorted = ranks.clone();
+        tracker.incAllocation();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && (sorted[0] < 0 || sorted[sorted.length - 1] >= n)) {
+            throw new IllegalArgumentException("rank out of bounds");
+        }
+        return sorted;
+    }
+
     /**
-     * Median of Medians pivot selection.
+     * First index in sorted[from..to] with value >= key (to + 1 if none).
      */
-    private static <T extends Comparable<T>> T medianOfMedians(
+    private static int lowerBound(int[] sorted, int from, int to, int key) {
+        int lo = from, hi = to + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Median of Medians pivot selection, in place: group medians are swapped
+     * to the front of the range and selected there (no scratch array).
+     */
+    static <T extends Comparable<T>> T medianOfMedians(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
         int n = high - low + 1;
@@ -84,25 +369,79 @@ public class DeterministicSelect {
         }
 
         int groups = (n + 4) / 5;
-        @SuppressWarnings("unchecked")
-        T[] medians = (T[]) new Comparable[groups];
-        tracker.incAllocation();
+        for (int i = 0; i < groups; i++) {
+            int gLow = low + i * 5;
+            int gHigh = Math.min(gLow + 4, high);
+            insertionSort(arr, gLow, gHigh, tracker);
+            // group i starts at or after low + i, so earlier medians are never disturbed
+            PartitionUtil.swap(arr, low + i, (gLow + gHigh) / 2);
+        }
+
+        return selectRecursive(arr, low, low + groups - 1, groups / 2, tracker);
+    }
+
+    static int medianOfMedians(int[] arr, int low, int high, MetricsTracker tracker) {
+        int n = high - low + 1;
+        if (n <= 5) {
+            insertionSort(arr, low, high, tracker);
+            return arr[low + n / 2];
+        }
+
+        int groups = (n + 4) / 5;
+        for (int i = 0; i < groups; i++) {
+            int gLow = low + i * 5;
+            int gHigh = Math.min(gLow + 4, high);
+            insertionSort(arr, gLow, gHigh, tracker);
+            // group i starts at or after low + i, so earlier medians are never disturbed
+            PartitionUtil.swap(arr, low + i, (gLow + gHigh) / 2);
+        }
+
+        return selectRecursive(arr, low, low + groups - 1, groups / 2, tracker);
+    }
+
+    private static long medianOfMedians(long[] arr, int low, int high, MetricsTracker tracker) {
+        int n = high - low + 1;
+        if (n <= 5) {
+            insertionSort(arr, low, high, tracker);
+            return arr[low + n / 2];
+        }
+
+        int groups = (n + 4) / 5;
+        for (int i = 0; i < groups; i++) {
+            int gLow = low + i * 5;
+            int gHigh = Math.min(gLow + 4, high);
+            insertionSort(arr, gLow, gHigh, tracker);
+            // group i starts at or after low + i, so earlier medians are never disturbed
+            PartitionUtil.swap(arr, low + i, (gLow + gHigh) / 2);
+        }
+
+        return selectRecursive(arr, low, low + groups - 1, groups / 2, tracker);
+    }
+
+    private static double medianOfMedians(double[] arr, int low, int high, MetricsTracker tracker) {
+        int n = high - low + 1;
+        if (n <= 5) {
+            insertionSort(arr, low, high, tracker);
+            return arr[low + n / 2];
+        }
 
+        int groups = (n + 4) / 5;
         for (int i = 0; i < groups; i++) {
             int gLow = low + i * 5;
             int gHigh = Math.min(gLow + 4, high);
             insertionSort(arr, gLow, gHigh, tracker);
-            medians[i] = arr[(gLow + gHigh) / 2];
+            // group i starts at or after low + i, so earlier medians are never disturbed
+            PartitionUtil.swap(arr, low + i, (gLow + gHigh) / 2);
         }
 
-        return selectRecursive(medians, 0, groups - 1, groups / 2, tracker);
+        return selectRecursive(arr, low, low + groups - 1, groups / 2, tracker);
     }
 
     /**
      * Three-way partition: < pivot | == pivot | > pivot.
-     * Returns [lt, gt].
+     * Returns packed bounds (lt << 32) | gt.
      */
-    private static <T extends Comparable<T>> int[] threeWayPartition(
+    static <T extends Comparable<T>> long threeWayPartition(
             T[] arr, int low, int high, T pivot, MetricsTracker tracker) {
 
         // move one pivot instance to end
@@ -128,13 +467,47 @@ public class DeterministicSelect {
                 i++;
             }
         }
-        return new int[]{lt, gt};
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static long threeWayPartition(int[] arr, int low, int high, int pivot, MetricsTracker tracker) {
+        return BlockPartition.threeWayPartition(arr, low, high, pivot, tracker);
+    }
+
+    private static long threeWayPartition(long[] arr, int low, int high, long pivot, MetricsTracker tracker) {
+        return BlockPartition.threeWayPartition(arr, low, high, pivot, tracker);
+    }
+
+    private static long threeWayPartition(double[] arr, int low, int high, double pivot, MetricsTracker tracker) {
+        for (int j = low; j <= high; j++) {
+            tracker.incComparison();
+            if (Double.compare(arr[j], pivot) == 0) {
+                PartitionUtil.swap(arr, j, high);
+                break;
+            }
+        }
+
+        double pivotVal = arr[high];
+        int lt = low, gt = high, i = low;
+
+        while (i <= gt) {
+            tracker.incComparison();
+            int cmp = Double.compare(arr[i], pivotVal);
+            if (cmp < 0) {
+                PartitionUtil.swap(arr, lt++, i++);
+            } else if (cmp > 0) {
+                PartitionUtil.swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
     }
 
     /**
      * Insertion sort for groups ≤ 5.
      */
-    private static <T extends Comparable<T>> void insertionSort(
+    static <T extends Comparable<T>> void insertionSort(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
         for (int i = low + 1; i <= high; i++) {
@@ -149,4 +522,46 @@ public class DeterministicSelect {
             arr[j + 1] = key;
         }
     }
+
+    static void insertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison();
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(long[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison();
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(double[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(arr[j], key) > 0) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison();
+            arr[j + 1] = key;
+        }
+    }
 }
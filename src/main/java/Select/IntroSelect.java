@@ -0,0 +1,170 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IntroSelect: Floyd–Rivest / median-of-medians hybrid selection.
+ * Features:
+ *  - Floyd–Rivest sampling (random pivot on small ranges) for near-quickselect average cost
+ *  - Shrink check every two partitions: if the range did not halve, switches to
+ *    {@link DeterministicSelect} median-of-medians pivots → O(n) worst case
+ *  - Same in-place, allocation-free partitioning as DeterministicSelect
+ */
+public class IntroSelect {
+
+    private static final int CUTOFF = 16;             // insertion sort below this size
+    private static final int SAMPLE_THRESHOLD = 600;  // Floyd–Rivest sampling above this size
+
+    /**
+     * Finds the k-th smallest element (0-based) in the array.
+     * @param arr input array
+     * @param k index of order statistic
+     * @param tracker metrics tracker
+     * @return k-th smallest element
+     */
+    public static <T extends Comparable<T>> T select(T[] arr, int k, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        T result = selectRecursive(arr, 0, arr.length - 1, k, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based) in a primitive int array.
+     */
+    public static int select(int[] arr, int k, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        int result = selectRecursive(arr, 0, arr.length - 1, k, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Selects arr[k] within [low..high] (k is an absolute index).
+     * Falls back to median-of-medians pivots once two sampled partitions fail to halve the range.
+     */
+    static <T extends Comparable<T>> T selectRecursive(T[] arr, int low, int high, int k, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            boolean fallback = false;
+            int checkSize = high - low + 1;
+            int steps = 0;
+
+            while (high - low >= CUTOFF) {
+                T pivot = fallback
+                        ? DeterministicSelect.medianOfMedians(arr, low, high, tracker)
+                        : samplePivot(arr, low, high, k, tracker);
+                long bounds = DeterministicSelect.threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                if (k < lt) {
+                    high = lt - 1;
+                } else if (k > gt) {
+                    low = gt + 1;
+                } else {
+                    return pivot;
+                }
+
+                if (!fallback && ++steps == 2) {
+                    int size = high - low + 1;
+                    fallback = size > checkSize / 2;
+                    checkSize = size;
+                    steps = 0;
+                }
+            }
+            DeterministicSelect.insertionSort(arr, low, high, tracker);
+            return arr[k];
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Floyd–Rivest pivot: selects k inside a sample window of ~n^(2/3) elements around k
+     * and returns arr[k]. Small ranges use a random element instead.
+     */
+    private static <T extends Comparable<T>> T samplePivot(T[] arr, int low, int high, int k, MetricsTracker tracker) {
+        int n = high - low + 1;
+        if (n <= SAMPLE_THRESHOLD) {
+            return arr[low + ThreadLocalRandom.current().nextInt(n)];
+        }
+
+        int i = k - low + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+        int sLow = Math.max(low, (int) (k - i * s / n + sd));
+        int sHigh = Math.min(high, (int) (k + (n - i) * s / n + sd));
+
+        selectRecursive(arr, Math.min(sLow, k), Math.max(sHigh, k), k, tracker);
+        return arr[k];
+    }
+
+    // --- int[] specialization ---
+
+    static int selectRecursive(int[] arr, int low, int high, int k, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            boolean fallback = false;
+            int checkSize = high - low + 1;
+            int steps = 0;
+
+            while (high - low >= CUTOFF) {
+                int pivot = fallback
+                        ? DeterministicSelect.medianOfMedians(arr, low, high, tracker)
+                        : samplePivot(arr, low, high, k, tracker);
+                long bounds = DeterministicSelect.threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                if (k < lt) {
+                    high = lt - 1;
+                } else if (k > gt) {
+                    low = gt + 1;
+                } else {
+                    return pivot;
+                }
+
+                if (!fallback && ++steps == 2) {
+                    int size = high - low + 1;
+                    fallback = size > checkSize / 2;
+                    checkSize = size;
+                    steps = 0;
+                }
+            }
+            DeterministicSelect.insertionSort(arr, low, high, tracker);
+            return arr[k];
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static int samplePivot(int[] arr, int low, int high, int k, MetricsTracker tracker) {
+        int n = high - low + 1;
+        if (n <= SAMPLE_THRESHOLD) {
+            return arr[low + ThreadLocalRandom.current().nextInt(n)];
+        }
+
+        int i = k - low + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+        int sLow = Math.max(low, (int) (k - i * s / n + sd));
+        int sHigh = Math.min(high, (int) (k + (n - i) * s / n + sd));
+
+        selectRecursive(arr, Math.min(sLow, k), Math.max(sHigh, k), k, tracker);
+        return arr[k];
+    }
+}
@@ -0,0 +1,342 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parallel sample-based selection (Floyd–Rivest bracketing) on the common ForkJoinPool.
+ * Features:
+ *  - Random sample of ~n^(2/3) elements picks two pivots bracketing k's expected rank
+ *  - Pass 1: chunks count elements below / inside the bracket in parallel
+ *  - Pass 2: only the in-bracket band (~n^(2/3) elements) is compacted in parallel
+ *  - The band is finished with the sequential {@link IntroSelect}
+ *  - Two parallel passes over the data in the normal case; the input array is not modified
+ *  - Per-chunk MetricsTracker folded into the caller's; each parallel pass counted via incPass
+ */
+public class ParallelSelect {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 16; // chunk size and sequential cutoff (elements)
+    private static final int MIN_SAMPLE = 1 << 10;
+    private static final double BRACKET_WIDTH = 3.0;     // bracket half-width in units of sqrt(sample size)
+    private static final int MAX_ATTEMPTS = 2;           // widened retry before the sequential fallback
+
+    /**
+     * Finds the k-th smallest element (0-based) with the default threshold.
+     */
+    public static <T extends Comparable<T>> T select(T[] arr, int k, MetricsTracker tracker) {
+        return select(arr, k, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based).
+     * @param threshold chunk size of the parallel passes; arrays at most this long are selected sequentially
+     */
+    public static <T extends Comparable<T>> T select(T[] arr, int k, int threshold, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        checkArgs(arr.length, k, threshold);
+
+        tracker.start();
+        T result = selectBand(arr, k, threshold, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based) of a primitive int array with the default threshold.
+     */
+    public static int select(int[] arr, int k, MetricsTracker tracker) {
+        return select(arr, k, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based) of a primitive int array.
+     * @param threshold chunk size of the parallel passes; arrays at most this long are selected sequentially
+     */
+    public static int select(int[] arr, int k, int threshold, MetricsTracker tracker) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        checkArgs(arr.length, k, threshold);
+
+        tracker.start();
+        int result = selectBand(arr, k, threshold, tracker);
+        tracker.stop();
+        return result;
+    }
+
+    private static void checkArgs(int n, int k, int threshold) {
+        if (k < 0 || k >= n) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+    }
+
+    /**
+     * Sample → bracket → parallel count → parallel compaction → sequential select on the band.
+     */
+    private static <T extends Comparable<T>> T selectBand(T[] arr, int k, int threshold, MetricsTracker tracker) {
+        int n = arr.length;
+        if (n > threshold) {
+            int s = (int) Math.min(n, Math.max(MIN_SAMPLE, Math.pow(n, 2.0 / 3)));
+            T[] sample = newArray(arr, s);
+            tracker.incAllocation();
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            for (int i = 0; i < s; i++) sample[i] = arr[rand.nextInt(n)];
+
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                // bracket ranks around k's expected position in the sample
+                double delta = attempt * BRACKET_WIDTH * Math.sqrt(s);
+                double r = (double) k * s / n;
+                int loRank = (int) Math.floor(r - delta);
+                int hiRank = (int) Math.ceil(r + delta);
+                boolean hasLo = loRank >= 0, hasHi = hiRank < s;
+                T lo = hasLo ? IntroSelect.selectRecursive(sample, 0, s - 1, loRank, tracker) : null;
+                T hi = hasHi ? IntroSelect.selectRecursive(sample, Math.max(loRank, 0), s - 1, hiRank, tracker) : null;
+
+                Pass<T> pass = new Pass<>(arr, lo, hi, hasLo, hasHi, threshold);
+                ForkJoinPool.commonPool().invoke(new BandTask<>(pass, 0, pass.chunks));
+                tracker.incPass();
+
+                long below = 0, inside = 0;
+                for (int c = 0; c < pass.chunks; c++) {
+                    below += pass.below[c];
+                    int count = pass.inside[c];
+                    pass.inside[c] = (int) inside; // becomes the chunk's write offset
+                    inside += count;
+                }
+
+                if (below <= k && k < below + inside) {
+                    pass.band = newArray(arr, (int) inside);
+                    tracker.incAllocation();
+                    ForkJoinPool.commonPool().invoke(new BandTask<>(pass, 0, pass.chunks));
+                    tracker.incPass();
+                    pass.mergeInto(tracker);
+                    return IntroSelect.selectRecursive(pass.band, 0, pass.band.length - 1, (int) (k - below), tracker);
+                }
+                pass.mergeInto(tracker);
+            }
+        }
+
+        // small input, or k fell outside both brackets: sequential select on a copy
+        T[] copy = arr.clone();
+        tracker.incAllocation();
+        return IntroSelect.selectRecursive(copy, 0, n - 1, k, tracker);
+    }
+
+    private static int selectBand(int[] arr, int k, int threshold, MetricsTracker tracker) {
+        int n = arr.length;
+        if (n > threshold) {
+            int s = (int) Math.min(n, Math.max(MIN_SAMPLE, Math.pow(n, 2.0 / 3)));
+            int[] sample = new int[s];
+            tracker.incAllocation();
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            for (int i = 0; i < s; i++) sample[i] = arr[rand.nextInt(n)];
+
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                // bracket ranks around k's expected position in the sample
+                double delta = attempt * BRACKET_WIDTH * Math.sqrt(s);
+                double r = (double) k * s / n;
+                int loRank = (int) Math.floor(r - delta);
+                int hiRank = (int) Math.ceil(r + delta);
+                boolean hasLo = loRank >= 0, hasHi = hiRank < s;
+                int lo = hasLo ? IntroSelect.selectRecursive(sample, 0, s - 1, loRank, tracker) : 0;
+                int hi = hasHi ? IntroSelect.selectRecursive(sample, Math.max(loRank, 0), s - 1, hiRank, tracker) : 0;
+
+                IntPass pass = new IntPass(arr, lo, hi, hasLo, hasHi, threshold);
+                ForkJoinPool.commonPool().invoke(new IntBandTask(pass, 0, pass.chunks));
+                tracker.incPass();
+
+                long below = 0, inside = 0;
+                for (int c = 0; c < pass.chunks; c++) {
+                    below += pass.below[c];
+                    int count = pass.inside[c];
+                    pass.inside[c] = (int) inside; // becomes the chunk's write offset
+                    inside += count;
+                }
+
+                if (below <= k && k < below + inside) {
+                    pass.band = new int[(int) inside];
+                    tracker.incAllocation();
+                    ForkJoinPool.commonPool().invoke(new IntBandTask(pass, 0, pass.chunks));
+                    tracker.incPass();
+                    pass.mergeInto(tracker);
+                    return IntroSelect.selectRecursive(pass.band, 0, pass.band.length - 1, (int) (k - below), tracker);
+                }
+                pass.mergeInto(tracker);
+            }
+        }
+
+        // small input, or k fell outside both brackets: sequential select on a copy
+        int[] copy = arr.clone();
+        tracker.incAllocation();
+        return IntroSelect.selectRecursive(copy, 0, n - 1, k, tracker);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(T[] like, int length) {
+        return (T[]) Array.newInstance(like.getClass().getComponentType(), length);
+    }
+
+    private static <T extends Comparable<T>> boolean less(T a, T b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a.compareTo(b) < 0;
+    }
+
+    private static boolean less(int a, int b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a < b;
+    }
+
+    /**
+     * State shared by the chunk tasks of one bracket: pivots, per-chunk counts and,
+     * in the second pass, the band being filled.
+     */
+    private static final class Pass<T extends Comparable<T>> {
+        final T[] arr;
+        final T lo, hi;
+        final boolean hasLo, hasHi;
+        final int chunkSize, chunks;
+        final int[] below, inside;
+        final MetricsTracker[] trackers;
+        T[] band; // null while counting
+
+        Pass(T[] arr, T lo, T hi, boolean hasLo, boolean hasHi, int chunkSize) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.hasLo = hasLo;
+            this.hasHi = hasHi;
+            this.chunkSize = chunkSize;
+            this.chunks = (int) ((arr.length + (long) chunkSize - 1) / chunkSize);
+            this.below = new int[chunks];
+            this.inside = new int[chunks];
+            this.trackers = new MetricsTracker[chunks];
+        }
+
+        void mergeInto(MetricsTracker tracker) {
+            for (MetricsTracker child : trackers) tracker.mergeFrom(child);
+        }
+    }
+
+    /**
+     * Splits the chunk range in halves down to single chunks. A leaf either counts its
+     * elements below / inside the bracket or copies its in-bracket elements to the band.
+     */
+    private static final class BandTask<T extends Comparable<T>> extends RecursiveAction {
+        private final Pass<T> pass;
+        private final int from, to;
+
+        BandTask(Pass<T> pass, int from, int to) {
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BandTask<>(pass, from, mid), new BandTask<>(pass, mid, to));
+                return;
+            }
+
+            int c = from;
+            if (pass.trackers[c] == null) pass.trackers[c] = new MetricsTracker();
+            MetricsTracker tracker = pass.trackers[c];
+            int start = c * pass.chunkSize;
+            int end = (int) Math.min(pass.arr.length, (long) start + pass.chunkSize);
+            T[] band = pass.band;
+            int below = 0, inside = 0, pos = band == null ? 0 : pass.inside[c];
+
+            for (int i = start; i < end; i++) {
+                T v = pass.arr[i];
+                if (pass.hasLo && less(v, pass.lo, tracker)) {
+                    below++;
+                } else if (!pass.hasHi || !less(pass.hi, v, tracker)) {
+                    if (band != null) band[pos++] = v;
+                    else inside++;
+                }
+            }
+
+            if (band == null) {
+                pass.below[c] = below;
+                pass.inside[c] = inside;
+            }
+        }
+    }
+
+    private static final class IntPass {
+        final int[] arr;
+        final int lo, hi;
+        final boolean hasLo, hasHi;
+        final int chunkSize, chunks;
+        final int[] below, inside;
+        final MetricsTracker[] trackers;
+        int[] band; // null while counting
+
+        IntPass(int[] arr, int lo, int hi, boolean hasLo, boolean hasHi, int chunkSize) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.hasLo = hasLo;
+            this.hasHi = hasHi;
+            this.chunkSize = chunkSize;
+            this.chunks = (int) ((arr.length + (long) chunkSize - 1) / chunkSize);
+            this.below = new int[chunks];
+            this.inside = new int[chunks];
+            this.trackers = new MetricsTracker[chunks];
+        }
+
+        void mergeInto(MetricsTracker tracker) {
+            for (MetricsTracker child : trackers) tracker.mergeFrom(child);
+        }
+    }
+
+    private static final class IntBandTask extends RecursiveAction {
+        private final IntPass pass;
+        private final int from, to;
+
+        IntBandTask(IntPass pass, int from, int to) {
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new IntBandTask(pass, from, mid), new IntBandTask(pass, mid, to));
+                return;
+            }
+
+            int c = from;
+            if (pass.trackers[c] == null) pass.trackers[c] = new MetricsTracker();
+            MetricsTracker tracker = pass.trackers[c];
+            int start = c * pass.chunkSize;
+            int end = (int) Math.min(pass.arr.length, (long) start + pass.chunkSize);
+            int[] band = pass.band;
+            int below = 0, inside = 0, pos = band == null ? 0 : pass.inside[c];
+
+            for (int i = start; i < end; i++) {
+                int v = pass.arr[i];
+                if (pass.hasLo && less(v, pass.lo, tracker)) {
+                    below++;
+                } else if (!pass.hasHi || !less(pass.hi, v, tracker)) {
+                    if (band != null) band[pos++] = v;
+                    else inside++;
+                }
+            }
+
+            if (band == null) {
+                pass.below[c] = below;
+                pass.inside[c] = inside;
+            }
+        }
+    }
+}
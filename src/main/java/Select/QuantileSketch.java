@@ -0,0 +1,253 @@
+package Select;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Streaming, mergeable quantile sketch (KLL compactor hierarchy).
+ * Approximate counterpart of {@link DeterministicSelect} for unbounded streams.
+ * Features:
+ *  - Values added one at a time or in primitive batches; nothing else is kept in memory
+ *  - Level h holds items of weight 2^h; a full level is sorted and every other item
+ *    (random offset) is promoted, the rest discarded
+ *  - Level capacities shrink geometrically (factor 2/3) below the top level → O(k) retained items
+ *  - Normalized rank error ≈ 1.7 / k with high probability (≈ 1% for the default k = 200)
+ *  - Sketches built on different threads are combined with {@link #merge}
+ *  - Compactions reported as passes, level growth as allocations in MetricsTracker
+ * Not thread-safe: use one sketch per thread and merge afterwards.
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_WIDTH = 8;
+    private static final double DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final MetricsTracker tracker;
+
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int numLevels = 1;
+    private int retained;
+    private int capacity;
+
+    private long n;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public QuantileSketch(MetricsTracker tracker) {
+        this(DEFAULT_K, tracker);
+    }
+
+    /**
+     * @param k accuracy parameter (top level capacity, ≥ 8); error shrinks as 1/k
+     */
+    public QuantileSketch(int k, MetricsTracker tracker) {
+        if (k < MIN_WIDTH) {
+            throw new IllegalArgumentException("k must be at least " + MIN_WIDTH);
+        }
+        this.k = k;
+        this.tracker = tracker;
+        this.levels[0] = new double[k];
+        tracker.incAllocation();
+        this.capacity = totalCapacity();
+    }
+
+    /**
+     * Adds one value. NaN is rejected: it has no place in the ordering.
+     */
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN cannot be added to the sketch");
+        }
+        if (n == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+        n++;
+        append(0, value);
+        if (retained > capacity) compress();
+    }
+
+    public void update(double[] values) {
+        for (double value : values) update(value);
+    }
+
+    public void update(int[] values) {
+        for (int value : values) update(value);
+    }
+
+    /**
+     * Adds a batch of longs (stored as doubles: exact up to 2^53 in magnitude).
+     */
+    public void update(long[] values) {
+        for (long value : values) update((double) value);
+    }
+
+    /**
+     * Folds other into this sketch; other is left unchanged.
+     */
+    public void merge(QuantileSketch other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge a sketch into itself");
+        }
+        if (other.n == 0) return;
+
+        if (n == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        n += other.n;
+
+        while (numLevels < other.numLevels) addLevel();
+        for (int h = 0; h < other.numLevels; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) append(h, other.levels[h][i]);
+        }
+        compress();
+    }
+
+    /**
+     * Approximate quantile: the value whose rank is closest to q·(n-1), i.e. an estimate of
+     * {@code DeterministicSelect.select(data, (int) (q * (n - 1)))}. NaN if the sketch is empty.
+     * @param q fraction in [0, 1]
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException("q must be in [0, 1]");
+        }
+        if (n == 0) return Double.NaN;
+        if (q == 0.0) return min;
+        if (q == 1.0) return max;
+
+        for (int h = 0; h < numLevels; h++) Arrays.sort(levels[h], 0, sizes[h]);
+
+        // walk the levels in merged value order, accumulating weights
+        double target = q * (n - 1);
+        int[] pos = new int[numLevels];
+        tracker.incAllocation();
+        long weightSoFar = 0;
+        while (true) {
+            int best = -1;
+            for (int h = 0; h < numLevels; h++) {
+                if (pos[h] < sizes[h]) {
+                    tracker.incComparison();
+                    if (best < 0 || levels[h][pos[h]] < levels[best][pos[best]]) best = h;
+                }
+            }
+            if (best < 0) return max;
+            weightSoFar += 1L << best;
+            if (weightSoFar > target) return levels[best][pos[best]];
+            pos[best]++;
+        }
+    }
+
+    /**
+     * Approximate normalized rank: fraction of added values ≤ value. NaN if the sketch is empty.
+     */
+    public double getRank(double value) {
+        if (n == 0) return Double.NaN;
+        long weight = 0;
+        for (int h = 0; h < numLevels; h++) {
+            long count = 0;
+            for (int i = 0; i < sizes[h]; i++) {
+                tracker.incComparison();
+                if (levels[h][i] <= value) count++;
+            }
+            weight += count << h;
+        }
+        return (double) weight / n;
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Number of values currently held (memory footprint in doubles).
+     */
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    private void append(int h, double value) {
+        if (sizes[h] == levels[h].length) {
+            levels[h] = Arrays.copyOf(levels[h], levels[h].length * 2);
+            tracker.incAllocation();
+        }
+        levels[h][sizes[h]++] = value;
+        retained++;
+    }
+
+    /**
+     * Compacts the lowest full level until the total fits the capacity again.
+     */
+    private void compress() {
+        while (retained > capacity) {
+            for (int h = 0; h < numLevels; h++) {
+                if (sizes[h] >= levelCapacity(h)) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts level h and promotes every other item (random offset) to level h+1 with double weight.
+     * For an odd size the largest item stays behind.
+     */
+    private void compact(int h) {
+        if (h == numLevels - 1) addLevel();
+        double[] level = levels[h];
+        int pairs = sizes[h] / 2;
+        Arrays.sort(level, 0, sizes[h]);
+        tracker.addComparisons(sizes[h]);
+
+        int offset = ThreadLocalRandom.current().nextInt(2);
+        for (int i = 0; i < pairs; i++) append(h + 1, level[2 * i + offset]);
+
+        if (sizes[h] % 2 == 1) level[0] = level[sizes[h] - 1];
+        retained -= 2 * pairs;
+        sizes[h] -= 2 * pairs;
+        tracker.incPass();
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            sizes = Arrays.copyOf(sizes, numLevels * 2);
+        }
+        levels[numLevels] = new double[MIN_WIDTH];
+        tracker.incAllocation();
+        numLevels++;
+        capacity = totalCapacity();
+    }
+
+    private int levelCapacity(int h) {
+        int depth = numLevels - 1 - h;
+        return Math.max(MIN_WIDTH, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int h = 0; h < numLevels; h++) total += levelCapacity(h);
+        return total;
+    }
+}
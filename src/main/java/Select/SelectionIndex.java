@@ -0,0 +1,147 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SelectionIndex: incremental quickselect for repeated rank queries on the same array.
+ * Features:
+ *  - Remembers fence positions p (arr[..p-1] ≤ arr[p] ≤ arr[p+1..]) left behind by earlier partitions
+ *  - A query only partitions the gap between the two nearest fences around k
+ *  - Random pivots, with {@link DeterministicSelect} median-of-medians once a gap stops halving
+ *  - Fence set bounded by maxPivots; when full, the fence whose neighbours are closest is dropped
+ * The wrapped array is reordered in place; pass a copy if the original order matters.
+ */
+public class SelectionIndex<T extends Comparable<T>> {
+
+    public static final int DEFAULT_MAX_PIVOTS = 1024;
+    private static final int CUTOFF = 16; // insertion sort below this gap size
+
+    private final T[] arr;
+    private final int[] pivots; // sorted fence positions
+    private int pivotCount;
+
+    public SelectionIndex(T[] arr) {
+        this(arr, DEFAULT_MAX_PIVOTS);
+    }
+
+    /**
+     * @param maxPivots upper bound on remembered fence positions (≥ 2)
+     */
+    public SelectionIndex(T[] arr, int maxPivots) {
+        PartitionUtil.checkNotNullOrEmpty(arr);
+        if (maxPivots < 2) {
+            throw new IllegalArgumentException("maxPivots must be at least 2");
+        }
+        this.arr = arr;
+        this.pivots = new int[maxPivots];
+    }
+
+    /**
+     * Finds the k-th smallest element (0-based), reusing all earlier partitioning work.
+     */
+    public T select(int k, MetricsTracker tracker) {
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+
+        tracker.start();
+        int i = Arrays.binarySearch(pivots, 0, pivotCount, k);
+        T result;
+        if (i >= 0) {
+            result = arr[k];
+        } else {
+            int next = -i - 1;
+            int low = next == 0 ? 0 : pivots[next - 1] + 1;
+            int high = next == pivotCount ? arr.length - 1 : pivots[next] - 1;
+            result = selectInGap(low, high, k, tracker);
+        }
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Number of fence positions currently remembered.
+     */
+    public int getKnownPivots() {
+        return pivotCount;
+    }
+
+    public int size() {
+        return arr.length;
+    }
+
+    /**
+     * Quickselect confined to [low..high]; every partition's equal block bounds become fences.
+     */
+    private T selectInGap(int low, int high, int k, MetricsTracker tracker) {
+        boolean fallback = false;
+        int checkSize = high - low + 1;
+        int steps = 0;
+
+        while (high - low >= CUTOFF) {
+            T pivot = fallback
+                    ? DeterministicSelect.medianOfMedians(arr, low, high, tracker)
+                    : arr[low + ThreadLocalRandom.current().nextInt(high - low + 1)];
+            long bounds = DeterministicSelect.threeWayPartition(arr, low, high, pivot, tracker);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            addPivot(lt);
+            if (gt != lt) addPivot(gt);
+
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return arr[k];
+            }
+
+            if (!fallback && ++steps == 2) {
+                int size = high - low + 1;
+                fallback = size > checkSize / 2;
+                checkSize = size;
+                steps = 0;
+            }
+        }
+        DeterministicSelect.insertionSort(arr, low, high, tracker);
+        addPivot(k);
+        return arr[k];
+    }
+
+    private void addPivot(int pos) {
+        int i = Arrays.binarySearch(pivots, 0, pivotCount, pos);
+        if (i >= 0) return;
+        i = -i - 1;
+
+        if (pivotCount == pivots.length) {
+            int drop = leastUsefulPivot();
+            System.arraycopy(pivots, drop + 1, pivots, drop, pivotCount - drop - 1);
+            pivotCount--;
+            if (drop < i) i--;
+        }
+        System.arraycopy(pivots, i, pivots, i + 1, pivotCount - i);
+        pivots[i] = pos;
+        pivotCount++;
+    }
+
+    /**
+     * Fence whose removal creates the smallest merged gap.
+     */
+    private int leastUsefulPivot() {
+        int best = 0;
+        long bestSpan = Long.MAX_VALUE;
+        for (int i = 0; i < pivotCount; i++) {
+            int left = i == 0 ? -1 : pivots[i - 1];
+            int right = i == pivotCount - 1 ? arr.length : pivots[i + 1];
+            if (right - left < bestSpan) {
+                bestSpan = right - left;
+                best = i;
+            }
+        }
+        return best;
+    }
+}
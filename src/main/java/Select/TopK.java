@@ -0,0 +1,263 @@
+package Select;
+
+import org.Util.MetricsTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Top-k / partial sort on the selection machinery.
+ * Features:
+ *  - partialSort: {@link IntroSelect} isolates the k smallest in O(n), then only that prefix is sorted
+ *    → O(n + k log k) instead of a full O(n log n) sort
+ *  - topK on arrays: same, on a copy (input left untouched)
+ *  - topK on an Iterator / IntStream: bounded max-heap of k elements, O(n log k) time, O(k) memory
+ */
+public class TopK {
+
+    private static final int CUTOFF = 16; // insertion sort cutoff for the prefix sort
+
+    /**
+     * Rearranges arr so that arr[0..k-1] holds its k smallest elements in ascending order.
+     * The order of arr[k..] is unspecified.
+     */
+    public static <T extends Comparable<T>> void partialSort(T[] arr, int k, MetricsTracker tracker) {
+        checkK(arr == null ? -1 : arr.length, k);
+        if (k == 0) return;
+
+        tracker.start();
+        IntroSelect.selectRecursive(arr, 0, arr.length - 1, k - 1, tracker);
+        sortRange(arr, 0, k - 2, tracker); // arr[k-1] is already the largest of the prefix
+        tracker.stop();
+    }
+
+    /**
+     * Partial sort for primitive ints.
+     */
+    public static void partialSort(int[] arr, int k, MetricsTracker tracker) {
+        checkK(arr == null ? -1 : arr.length, k);
+        if (k == 0) return;
+
+        tracker.start();
+        IntroSelect.selectRecursive(arr, 0, arr.length - 1, k - 1, tracker);
+        sortRange(arr, 0, k - 2, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Returns the k smallest elements of arr in ascending order; arr is not modified.
+     */
+    public static <T extends Comparable<T>> T[] topK(T[] arr, int k, MetricsTracker tracker) {
+        checkK(arr == null ? -1 : arr.length, k);
+        T[] copy = arr.clone();
+        tracker.incAllocation();
+        partialSort(copy, k, tracker);
+        return Arrays.copyOf(copy, k);
+    }
+
+    /**
+     * Top-k for primitive ints; arr is not modified.
+     */
+    public static int[] topK(int[] arr, int k, MetricsTracker tracker) {
+        checkK(arr == null ? -1 : arr.length, k);
+        int[] copy = arr.clone();
+        tracker.incAllocation();
+        partialSort(copy, k, tracker);
+        return Arrays.copyOf(copy, k);
+    }
+
+    /**
+     * Streaming top-k: k smallest elements seen by the iterator, ascending.
+     * Keeps a bounded max-heap, so memory is O(k) regardless of stream length.
+     */
+    public static <T extends Comparable<T>> List<T> topK(Iterator<T> source, int k, MetricsTracker tracker) {
+        if (source == null || k < 0) {
+            throw new IllegalArgumentException("Invalid source or k");
+        }
+
+        tracker.start();
+        @SuppressWarnings("unchecked")
+        T[] heap = (T[]) new Comparable[k];
+        tracker.incAllocation();
+        int size = 0;
+
+        while (source.hasNext()) {
+            T value = source.next();
+            if (size < k) {
+                heap[size] = value;
+                siftUp(heap, size++, tracker);
+            } else if (k > 0 && less(value, heap[0], tracker)) {
+                heap[0] = value;
+                siftDown(heap, size, 0, tracker);
+            }
+        }
+
+        // heapsort the survivors: repeatedly move the max behind the shrinking heap
+        for (int end = size - 1; end > 0; end--) {
+            T max = heap[0];
+            heap[0] = heap[end];
+            heap[end] = max;
+            siftDown(heap, end, 0, tracker);
+        }
+        List<T> result = new ArrayList<>(Arrays.asList(heap).subList(0, size));
+        tracker.incAllocation();
+        tracker.stop();
+        return result;
+    }
+
+    /**
+     * Streaming top-k for primitive int streams.
+     */
+    public static int[] topK(IntStream source, int k, MetricsTracker tracker) {
+        if (source == null || k < 0) {
+            throw new IllegalArgumentException("Invalid source or k");
+        }
+
+        tracker.start();
+        int[] heap = new int[k];
+        tracker.incAllocation();
+        int size = 0;
+
+        PrimitiveIterator.OfInt it = source.iterator();
+        while (it.hasNext()) {
+            int value = it.nextInt();
+            if (size < k) {
+                heap[size] = value;
+                siftUp(heap, size++, tracker);
+            } else if (k > 0 && less(value, heap[0], tracker)) {
+                heap[0] = value;
+                siftDown(heap, size, 0, tracker);
+            }
+        }
+
+        for (int end = size - 1; end > 0; end--) {
+            int max = heap[0];
+            heap[0] = heap[end];
+            heap[end] = max;
+            siftDown(heap, end, 0, tracker);
+        }
+        tracker.stop();
+        return size == k ? heap : Arrays.copyOf(heap, size);
+    }
+
+    /**
+     * Quicksort of [low..high] on the selection partition: random pivot, smaller side first.
+     */
+    private static <T extends Comparable<T>> void sortRange(T[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (high - low >= CUTOFF) {
+                T pivot = arr[low + ThreadLocalRandom.current().nextInt(high - low + 1)];
+                long bounds = DeterministicSelect.threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                if (lt - low < high - gt) {
+                    sortRange(arr, low, lt - 1, tracker);
+                    low = gt + 1;
+                } else {
+                    sortRange(arr, gt + 1, high, tracker);
+                    high = lt - 1;
+                }
+            }
+            DeterministicSelect.insertionSort(arr, low, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void sortRange(int[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (high - low >= CUTOFF) {
+                int pivot = arr[low + ThreadLocalRandom.current().nextInt(high - low + 1)];
+                long bounds = DeterministicSelect.threeWayPartition(arr, low, high, pivot, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                if (lt - low < high - gt) {
+                    sortRange(arr, low, lt - 1, tracker);
+                    low = gt + 1;
+                } else {
+                    sortRange(arr, gt + 1, high, tracker);
+                    high = lt - 1;
+                }
+            }
+            DeterministicSelect.insertionSort(arr, low, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    // --- bounded max-heap helpers ---
+
+    private static <T extends Comparable<T>> void siftUp(T[] heap, int i, MetricsTracker tracker) {
+        T value = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!less(heap[parent], value, tracker)) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private static <T extends Comparable<T>> void siftDown(T[] heap, int size, int i, MetricsTracker tracker) {
+        T value = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && less(heap[child], heap[child + 1], tracker)) child++;
+            if (!less(value, heap[child], tracker)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    private static void siftUp(int[] heap, int i, MetricsTracker tracker) {
+        int value = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!less(heap[parent], value, tracker)) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private static void siftDown(int[] heap, int size, int i, MetricsTracker tracker) {
+        int value = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && less(heap[child], heap[child + 1], tracker)) child++;
+            if (!less(value, heap[child], tracker)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    private static <T extends Comparable<T>> boolean less(T a, T b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a.compareTo(b) < 0;
+    }
+
+    private static boolean less(int a, int b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a < b;
+    }
+
+    private static void checkK(int n, int k) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Argsort: sorts an index permutation by primitive keys instead of moving heavy records.
+ * Features:
+ *  - Keys extracted once into a long[] (int/long as is, doubles as order-preserving bits)
+ *  - Stable: top-down merge sort of the permutation, as in {@link MergeSort}
+ *  - Unstable: three-way random-pivot quicksort of the permutation, as in {@link QuickSort}
+ *  - Optional in-place application by cycle-following: each record moved once
+ */
+public class ArgSort {
+
+    private static final int CUTOFF = 16; // insertion sort cutoff
+
+    /**
+     * Returns perm such that records[perm[0]], records[perm[1]], ... are in ascending key order.
+     * @param stable keep the original order of records with equal keys
+     */
+    public static <T> int[] argsortByInt(T[] records, ToIntFunction<? super T> key, boolean stable,
+                                         MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        int[] perm = sortPermutation(intKeys(records, key, tracker), stable, tracker);
+        tracker.stop();
+        return perm;
+    }
+
+    /**
+     * Argsort by a long key.
+     */
+    public static <T> int[] argsortByLong(T[] records, ToLongFunction<? super T> key, boolean stable,
+                                          MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        int[] perm = sortPermutation(longKeys(records, key, tracker), stable, tracker);
+        tracker.stop();
+        return perm;
+    }
+
+    /**
+     * Argsort by a double key, in {@link Double#compare} order (-0.0 before 0.0, NaN last).
+     */
+    public static <T> int[] argsortByDouble(T[] records, ToDoubleFunction<? super T> key, boolean stable,
+                                            MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        int[] perm = sortPermutation(doubleKeys(records, key, tracker), stable, tracker);
+        tracker.stop();
+        return perm;
+    }
+
+    /**
+     * Sorts records in place by an int key: argsort, then one cycle-following pass.
+     */
+    public static <T> void sortByInt(T[] records, ToIntFunction<? super T> key, boolean stable,
+                                     MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        permute(records, sortPermutation(intKeys(records, key, tracker), stable, tracker));
+        tracker.stop();
+    }
+
+    /**
+     * Sorts records in place by a long key.
+     */
+    public static <T> void sortByLong(T[] records, ToLongFunction<? super T> key, boolean stable,
+                                      MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        permute(records, sortPermutation(longKeys(records, key, tracker), stable, tracker));
+        tracker.stop();
+    }
+
+    /**
+     * Sorts records in place by a double key.
+     */
+    public static <T> void sortByDouble(T[] records, ToDoubleFunction<? super T> key, boolean stable,
+                                        MetricsTracker tracker) {
+        checkRecords(records, key);
+        tracker.start();
+        permute(records, sortPermutation(doubleKeys(records, key, tracker), stable, tracker));
+        tracker.stop();
+    }
+
+    /**
+     * Reorders arr in place so that the new arr[i] is the old arr[perm[i]].
+     * Follows each cycle once; perm is used as the visited marker and restored afterwards.
+     */
+    public static <T> void applyPermutation(T[] arr, int[] perm, MetricsTracker tracker) {
+        if (arr == null || perm == null || arr.length != perm.length) {
+            throw new IllegalArgumentException("Array and permutation must have the same length");
+        }
+
+        tracker.start();
+        permute(arr, perm);
+        tracker.stop();
+    }
+
+    private static <T> void permute(T[] arr, int[] perm) {
+        for (int start = 0; start < perm.length; start++) {
+            if (perm[start] < 0) continue; // already placed
+
+            T first = arr[start];
+            int i = start;
+            while (true) {
+                int src = perm[i];
+                perm[i] = ~src;
+                if (src == start) {
+                    arr[i] = first;
+                    break;
+                }
+                arr[i] = arr[src];
+                i = src;
+            }
+        }
+        for (int i = 0; i < perm.length; i++) perm[i] = ~perm[i];
+    }
+
+    private static void checkRecords(Object[] records, Object key) {
+        if (records == null || key == null) {
+            throw new IllegalArgumentException("Records and key extractor must not be null");
+        }
+    }
+
+    private static <T> long[] intKeys(T[] records, ToIntFunction<? super T> key, MetricsTracker tracker) {
+        long[] keys = new long[records.length];
+        tracker.incAllocation();
+        for (int i = 0; i < records.length; i++) keys[i] = key.applyAsInt(records[i]);
+        return keys;
+    }
+
+    private static <T> long[] longKeys(T[] records, ToLongFunction<? super T> key, MetricsTracker tracker) {
+        long[] keys = new long[records.length];
+        tracker.incAllocation();
+        for (int i = 0; i < records.length; i++) keys[i] = key.applyAsLong(records[i]);
+        return keys;
+    }
+
+    private static <T> long[] doubleKeys(T[] records, ToDoubleFunction<? super T> key, MetricsTracker tracker) {
+        long[] keys = new long[records.length];
+        tracker.incAllocation();
+        for (int i = 0; i < records.length; i++) {
+            long bits = Double.doubleToLongBits(key.applyAsDouble(records[i]));
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE); // negatives: flip all but the sign bit
+        }
+        return keys;
+    }
+
+    private static int[] sortPermutation(long[] keys, boolean stable, MetricsTracker tracker) {
+        int n = keys.length;
+        int[] perm = new int[n];
+        tracker.incAllocation();
+        for (int i = 0; i < n; i++) perm[i] = i;
+
+        if (stable) {
+            int[] buffer = new int[n];
+            tracker.incAllocation();
+            mergeSort(perm, buffer, keys, 0, n - 1, tracker);
+        } else {
+            quickSort(perm, keys, 0, n - 1, tracker);
+        }
+        return perm;
+    }
+
+    /**
+     * Stable merge sort of perm by keys: divide, conquer, merge (skipped when already ordered).
+     */
+    private static void mergeSort(int[] perm, int[] buffer, long[] keys, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (high - low < CUTOFF) {
+                insertionSort(perm, keys, low, high, tracker);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+            mergeSort(perm, buffer, keys, low, mid, tracker);
+            mergeSort(perm, buffer, keys, mid + 1, high, tracker);
+
+            tracker.incComparison();
+            if (keys[perm[mid]] <= keys[perm[mid + 1]]) {
+                return;
+            }
+
+            System.arraycopy(perm, low, buffer, low, high - low + 1);
+            int i = low, j = mid + 1;
+            for (int k = low; k <= high; k++) {
+                if (i > mid) {
+                    perm[k] = buffer[j++];
+                } else if (j > high) {
+                    perm[k] = buffer[i++];
+                } else {
+                    tracker.incComparison();
+                    // take from the right only if strictly smaller: keeps equal keys in input order
+                    perm[k] = keys[buffer[j]] < keys[buffer[i]] ? buffer[j++] : buffer[i++];
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Quicksort of perm by keys: random pivot, three-way partition, smaller side first.
+     */
+    private static void quickSort(int[] perm, long[] keys, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (high - low >= CUTOFF) {
+                long pivot = keys[perm[low + ThreadLocalRandom.current().nextInt(high - low + 1)]];
+                int lt = low, gt = high, i = low;
+                while (i <= gt) {
+                    tracker.incComparison();
+                    long key = keys[perm[i]];
+                    if (key < pivot) {
+                        PartitionUtil.swap(perm, lt++, i++);
+                    } else if (key > pivot) {
+                        PartitionUtil.swap(perm, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    quickSort(perm, keys, low, lt - 1, tracker);
+                    low = gt + 1;
+                } else {
+                    quickSort(perm, keys, gt + 1, high, tracker);
+                    high = lt - 1;
+                }
+            }
+            insertionSort(perm, keys, low, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void insertionSort(int[] perm, long[] keys, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int idx = perm[i];
+            long key = keys[idx];
+            int j = i - 1;
+            while (j >= low && keys[perm[j]] > key) {
+                tracker.incComparison();
+                perm[j + 1] = perm[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison();
+            perm[j + 1] = idx;
+        }
+    }
+}
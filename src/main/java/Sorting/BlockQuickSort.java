@@ -0,0 +1,128 @@
+package Sorting;
+
+import org.Util.BlockPartition;
+import org.Util.MetricsTracker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * QuickSort for primitive arrays on the branchless {@link BlockPartition} kernel.
+ * Features:
+ *  - Median of three random samples as pivot (by value)
+ *  - Smaller-first recursion, bounded stack depth (≈ O(log n))
+ *  - When no element is below the pivot, its duplicates are split off in one extra pass
+ */
+public class BlockQuickSort {
+
+    private static final int CUTOFF = 16; // insertion sort cutoff
+
+    /**
+     * Public entry point for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry point for primitive longs.
+     */
+    public static void sort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Recursive helper: recurse on smaller partition, iterate on larger one.
+     */
+    private static void sortRecursive(int[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    QuickSort.insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                int pivot = randomMedianOf3(arr, low, high, tracker);
+                int mid = BlockPartition.partitionLess(arr, low, high, pivot, tracker);
+
+                if (mid == low) {
+                    // nothing below the pivot: it is the minimum, split off its duplicates
+                    low = BlockPartition.partitionLessEqual(arr, low, high, pivot, tracker);
+                    continue;
+                }
+
+                if (mid - low < high - mid + 1) {
+                    sortRecursive(arr, low, mid - 1, tracker);
+                    low = mid;
+                } else {
+                    sortRecursive(arr, mid, high, tracker);
+                    high = mid - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Median value of three randomly chosen elements.
+     */
+    private static int randomMedianOf3(int[] arr, int low, int high, MetricsTracker tracker) {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        int a = arr[low + rand.nextInt(high - low + 1)];
+        int b = arr[low + rand.nextInt(high - low + 1)];
+        int c = arr[low + rand.nextInt(high - low + 1)];
+        tracker.addComparisons(3);
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    // --- long[] specialization ---
+
+    private static void sortRecursive(long[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    QuickSort.insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long pivot = randomMedianOf3(arr, low, high, tracker);
+                int mid = BlockPartition.partitionLess(arr, low, high, pivot, tracker);
+
+                if (mid == low) {
+                    // nothing below the pivot: it is the minimum, split off its duplicates
+                    low = BlockPartition.partitionLessEqual(arr, low, high, pivot, tracker);
+                    continue;
+                }
+
+                if (mid - low < high - mid + 1) {
+                    sortRecursive(arr, low, mid - 1, tracker);
+                    low = mid;
+                } else {
+                    sortRecursive(arr, mid, high, tracker);
+                    high = mid - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static long randomMedianOf3(long[] arr, int low, int high, MetricsTracker tracker) {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        long a = arr[low + rand.nextInt(high - low + 1)];
+        long b = arr[low + rand.nextInt(high - low + 1)];
+        long c = arr[low + rand.nextInt(high - low + 1)];
+        tracker.addComparisons(3);
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+}
@@ -0,0 +1,136 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+
+/**
+ * Iterative bottom-up MergeSort.
+ * Features:
+ *  - Blocks of {@link MergeSort#CUTOFF} insertion-sorted first
+ *  - Each pass merges from one array into the other ("ping-pong"),
+ *    so data moves once per level instead of copy-then-merge
+ *  - No recursion: max depth stays 0
+ */
+public class BottomUpMergeSort {
+
+    /**
+     * Public entry for bottom-up MergeSort.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        int n = arr.length;
+        for (int low = 0; low < n; low += MergeSort.CUTOFF) {
+            MergeSort.insertionSort(arr, low, Math.min(low + MergeSort.CUTOFF, n) - 1, tracker);
+        }
+
+        if (n > MergeSort.CUTOFF) {
+            tracker.incAllocation(); // buffer allocation
+            T[] src = arr, dst = Arrays.copyOf(arr, n);
+            for (int width = MergeSort.CUTOFF; width < n; width <<= 1) {
+                for (int low = 0; low < n; low += 2 * width) {
+                    int mid = Math.min(low + width, n);
+                    int high = Math.min(low + 2 * width, n);
+                    mergeInto(src, dst, low, mid, high, tracker);
+                }
+                T[] tmp = src;
+                src = dst;
+                dst = tmp;
+            }
+            if (src != arr) {
+                System.arraycopy(src, 0, arr, 0, n); // odd number of passes
+            }
+        }
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        int n = arr.length;
+        for (int low = 0; low < n; low += MergeSort.CUTOFF) {
+            MergeSort.insertionSort(arr, low, Math.min(low + MergeSort.CUTOFF, n) - 1, tracker);
+        }
+
+        if (n > MergeSort.CUTOFF) {
+            tracker.incAllocation(); // buffer allocation
+            int[] src = arr, dst = new int[n];
+            for (int width = MergeSort.CUTOFF; width < n; width <<= 1) {
+                for (int low = 0; low < n; low += 2 * width) {
+                    int mid = Math.min(low + width, n);
+                    int high = Math.min(low + 2 * width, n);
+                    mergeInto(src, dst, low, mid, high, tracker);
+                }
+                int[] tmp = src;
+                src = dst;
+                dst = tmp;
+            }
+            if (src != arr) {
+                System.arraycopy(src, 0, arr, 0, n); // odd number of passes
+            }
+        }
+        tracker.stop();
+    }
+
+    /**
+     * Merges src[low..mid-1] and src[mid..high-1] into dst[low..high-1].
+     */
+    private static <T extends Comparable<T>> void mergeInto(
+            T[] src, T[] dst, int low, int mid, int high, MetricsTracker tracker) {
+
+        if (mid >= high) {
+            System.arraycopy(src, low, dst, low, high - low); // lone trailing block
+            return;
+        }
+
+        // optimization: halves already in order, just move them
+        tracker.incComparison();
+        if (src[mid - 1].compareTo(src[mid]) <= 0) {
+            System.arraycopy(src, low, dst, low, high - low);
+            return;
+        }
+
+        int i = low, j = mid;
+        for (int k = low; k < high; k++) {
+            if (i >= mid) {
+                dst[k] = src[j++];
+            } else if (j >= high) {
+                dst[k] = src[i++];
+            } else {
+                tracker.incComparison();
+                dst[k] = (src[i].compareTo(src[j]) <= 0) ? src[i++] : src[j++];
+            }
+        }
+    }
+
+    private static void mergeInto(int[] src, int[] dst, int low, int mid, int high, MetricsTracker tracker) {
+        if (mid >= high) {
+            System.arraycopy(src, low, dst, low, high - low);
+            return;
+        }
+
+        tracker.incComparison();
+        if (src[mid - 1] <= src[mid]) {
+            System.arraycopy(src, low, dst, low, high - low);
+            return;
+        }
+
+        int i = low, j = mid;
+        for (int k = low; k < high; k++) {
+            if (i >= mid) {
+                dst[k] = src[j++];
+            } else if (j >= high) {
+                dst[k] = src[i++];
+            } else {
+                tracker.incComparison();
+                dst[k] = (src[i] <= src[j]) ? src[i++] : src[j++];
+            }
+        }
+    }
+}
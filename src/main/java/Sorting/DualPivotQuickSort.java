@@ -0,0 +1,238 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+import java.util.Random;
+
+/**
+ * Dual-pivot QuickSort (Yaroslavskiy partitioning) with two random pivots.
+ * Splits into three parts per pass (fewer passes over memory than {@link QuickSort}),
+ * recurses on the two smaller parts and loops on the largest (depth ≈ O(log n)).
+ */
+public class DualPivotQuickSort {
+
+    private static final Random RANDOM = new Random();
+    private static final int CUTOFF = 16; // insertion sort cutoff
+
+    /**
+     * Public entry point.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry point for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Recursive helper: recurse on the two smaller parts, iterate on the largest one.
+     */
+    private static <T extends Comparable<T>> void sortRecursive(T[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                // parts: [low, lt-1] < p, [lt+1, gt-1] in [p, q], [gt+1, high] > q
+                int leftSize = lt - low, rightSize = high - gt;
+                tracker.incComparison();
+                boolean middleEqual = arr[lt].compareTo(arr[gt]) == 0; // p == q: middle holds only p
+                int midSize = middleEqual ? 0 : gt - lt - 1;
+
+                if (leftSize >= midSize && leftSize >= rightSize) {
+                    if (!middleEqual) sortRecursive(arr, lt + 1, gt - 1, tracker);
+                    sortRecursive(arr, gt + 1, high, tracker);
+                    high = lt - 1;
+                } else if (rightSize >= midSize) {
+                    sortRecursive(arr, low, lt - 1, tracker);
+                    if (!middleEqual) sortRecursive(arr, lt + 1, gt - 1, tracker);
+                    low = gt + 1;
+                } else {
+                    sortRecursive(arr, low, lt - 1, tracker);
+                    sortRecursive(arr, gt + 1, high, tracker);
+                    low = lt + 1;
+                    high = gt - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Dual-pivot partition with two random pivots p <= q.
+     * Returns final pivot positions packed as (lt << 32) | gt.
+     */
+    private static <T extends Comparable<T>> long partition(T[] arr, int low, int high, MetricsTracker tracker) {
+        PartitionUtil.swap(arr, low, low + RANDOM.nextInt(high - low + 1));
+        PartitionUtil.swap(arr, high, low + 1 + RANDOM.nextInt(high - low));
+        tracker.incComparison();
+        if (arr[low].compareTo(arr[high]) > 0) {
+            PartitionUtil.swap(arr, low, high);
+        }
+
+        T p = arr[low], q = arr[high];
+        int lt = low + 1, gt = high - 1, i = low + 1;
+
+        while (i <= gt) {
+            tracker.incComparison();
+            if (arr[i].compareTo(p) < 0) {
+                PartitionUtil.swap(arr, i, lt++);
+            } else {
+                tracker.incComparison();
+                if (arr[i].compareTo(q) > 0) {
+                    while (i < gt) {
+                        tracker.incComparison();
+                        if (arr[gt].compareTo(q) <= 0) break;
+                        gt--;
+                    }
+                    PartitionUtil.swap(arr, i, gt--);
+                    tracker.incComparison();
+                    if (arr[i].compareTo(p) < 0) {
+                        PartitionUtil.swap(arr, i, lt++);
+                    }
+                }
+            }
+            i++;
+        }
+
+        lt--;
+        gt++;
+        PartitionUtil.swap(arr, low, lt);
+        PartitionUtil.swap(arr, high, gt);
+        return ((long) lt << 32) | gt;
+    }
+
+    /**
+     * Insertion sort for small subarrays.
+     */
+    private static <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j].compareTo(key) > 0) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    // --- int[] specialization ---
+
+    /**
+     * Recursive helper: recurse on the two smaller parts, iterate on the largest one.
+     */
+    private static void sortRecursive(int[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+                // parts: [low, lt-1] < p, [lt+1, gt-1] in [p, q], [gt+1, high] > q
+                int leftSize = lt - low, rightSize = high - gt;
+                tracker.incComparison();
+                boolean middleEqual = arr[lt] == arr[gt]; // p == q: middle holds only p
+                int midSize = middleEqual ? 0 : gt - lt - 1;
+
+                if (leftSize >= midSize && leftSize >= rightSize) {
+                    if (!middleEqual) sortRecursive(arr, lt + 1, gt - 1, tracker);
+                    sortRecursive(arr, gt + 1, high, tracker);
+                    high = lt - 1;
+                } else if (rightSize >= midSize) {
+                    sortRecursive(arr, low, lt - 1, tracker);
+                    if (!middleEqual) sortRecursive(arr, lt + 1, gt - 1, tracker);
+                    low = gt + 1;
+                } else {
+                    sortRecursive(arr, low, lt - 1, tracker);
+                    sortRecursive(arr, gt + 1, high, tracker);
+                    low = lt + 1;
+                    high = gt - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static long partition(int[] arr, int low, int high, MetricsTracker tracker) {
+        PartitionUtil.swap(arr, low, low + RANDOM.nextInt(high - low + 1));
+        PartitionUtil.swap(arr, high, low + 1 + RANDOM.nextInt(high - low));
+        tracker.incComparison();
+        if (arr[low] > arr[high]) {
+            PartitionUtil.swap(arr, low, high);
+        }
+
+        int p = arr[low], q = arr[high];
+        int lt = low + 1, gt = high - 1, i = low + 1;
+
+        while (i <= gt) {
+            tracker.incComparison();
+            if (arr[i] < p) {
+                PartitionUtil.swap(arr, i, lt++);
+            } else {
+                tracker.incComparison();
+                if (arr[i] > q) {
+                    while (i < gt) {
+                        tracker.incComparison();
+                        if (arr[gt] <= q) break;
+                        gt--;
+                    }
+                    PartitionUtil.swap(arr, i, gt--);
+                    tracker.incComparison();
+                    if (arr[i] < p) {
+                        PartitionUtil.swap(arr, i, lt++);
+                    }
+                }
+            }
+            i++;
+        }
+
+        lt--;
+        gt++;
+        PartitionUtil.swap(arr, low, lt);
+        PartitionUtil.swap(arr, high, gt);
+        return ((long) lt << 32) | gt;
+    }
+
+    private static void insertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+}
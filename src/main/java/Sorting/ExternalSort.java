@@ -0,0 +1,280 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * External k-way merge sort for binary files of 32-bit ints (big-endian) larger than the heap.
+ * Features:
+ *  - Input split into heap-sized chunks, each sorted in memory with {@link QuickSort}
+ *  - Sorted runs spilled to a temp directory next to the output file
+ *  - Runs merged with a binary min-heap, at most fanIn runs per pass
+ *  - All I/O through FileChannel / MappedByteBuffer windows: no per-record objects
+ *  - Runs, spill bytes and merge passes reported via MetricsTracker
+ */
+public class ExternalSort {
+
+    public static final int DEFAULT_FAN_IN = 64;
+    private static final int WINDOW_BYTES = 1 << 23; // 8 MB mapping window per reader/writer
+
+    /**
+     * Sorts input into output using chunks sized to a quarter of the max heap.
+     */
+    public static void sort(Path input, Path output, MetricsTracker tracker) throws IOException {
+        long heapRecords = Runtime.getRuntime().maxMemory() / 4 / Integer.BYTES;
+        sort(input, output, (int) Math.min(heapRecords, Integer.MAX_VALUE - 8), DEFAULT_FAN_IN, tracker);
+    }
+
+    /**
+     * Sorts input into output.
+     * @param chunkRecords records sorted in memory per run
+     * @param fanIn maximum number of runs merged in one pass (≥ 2)
+     */
+    public static void sort(Path input, Path output, int chunkRecords, int fanIn, MetricsTracker tracker)
+            throws IOException {
+        if (chunkRecords < 1) {
+            throw new IllegalArgumentException("chunkRecords must be positive");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2");
+        }
+
+        tracker.start();
+        Path tempDir = Files.createTempDirectory(output.toAbsolutePath().getParent(), "extsort");
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Input size is not a multiple of " + Integer.BYTES + " bytes");
+            }
+            long records = size / Integer.BYTES;
+
+            if (records <= chunkRecords) {
+                // fits in memory: sort and write straight to output, no spill
+                int[] chunk = readChunk(in, 0, (int) records, null, tracker);
+                writeRun(output, chunk, (int) records);
+                if (records > 0) tracker.incRun();
+                return;
+            }
+
+            List<Path> runs = spillRuns(in, records, chunkRecords, tempDir, tracker);
+            while (runs.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    if (group.size() == 1) {
+                        next.add(group.get(0));
+                        continue;
+                    }
+                    Path merged = Files.createTempFile(tempDir, "run", ".bin");
+                    tracker.addSpillBytes(mergeRuns(group, merged, tracker));
+                    for (Path run : group) Files.delete(run);
+                    next.add(merged);
+                }
+                runs = next;
+                tracker.incPass();
+            }
+            mergeRuns(runs, output, tracker);
+            tracker.incPass();
+        } finally {
+            deleteTree(tempDir);
+            tracker.stop();
+        }
+    }
+
+    /**
+     * Phase 1: sorts each chunk in memory and spills it as a run file.
+     */
+    private static List<Path> spillRuns(FileChannel in, long records, int chunkRecords, Path tempDir,
+                                        MetricsTracker tracker) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        int[] chunk = null;
+        for (long first = 0; first < records; first += chunkRecords) {
+            int len = (int) Math.min(chunkRecords, records - first);
+            chunk = readChunk(in, first, len, chunk, tracker);
+
+            Path run = Files.createTempFile(tempDir, "run", ".bin");
+            writeRun(run, chunk, len);
+            tracker.addSpillBytes((long) len * Integer.BYTES);
+            tracker.incRun();
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    /**
+     * Reads len records starting at record index first into chunk[0..len-1] and sorts them.
+     * The chunk array is allocated once and reused for every run.
+     */
+    private static int[] readChunk(FileChannel in, long first, int len, int[] reuse, MetricsTracker tracker)
+            throws IOException {
+        int[] chunk = reuse;
+        if (chunk == null) {
+            chunk = new int[len];
+            tracker.incAllocation();
+        }
+
+        int done = 0;
+        while (done < len) {
+            int count = Math.min(len - done, WINDOW_BYTES / Integer.BYTES);
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY,
+                    (first + done) * Integer.BYTES, (long) count * Integer.BYTES);
+            window.asIntBuffer().get(chunk, done, count);
+            done += count;
+        }
+
+        if (len > 1) {
+            MetricsTracker chunkTracker = new MetricsTracker();
+            QuickSort.sortRecursive(chunk, 0, len - 1, chunkTracker);
+            tracker.mergeFrom(chunkTracker);
+        }
+        return chunk;
+    }
+
+    private static void writeRun(Path file, int[] chunk, int len) throws IOException {
+        try (RunWriter writer = new RunWriter(file, (long) len * Integer.BYTES)) {
+            for (int i = 0; i < len; i++) writer.write(chunk[i]);
+        }
+    }
+
+    /**
+     * Phase 2: k-way merge of sorted runs into target through a min-heap of run indices.
+     * @return bytes written
+     */
+    private static long mergeRuns(List<Path> runs, Path target, MetricsTracker tracker) throws IOException {
+        int k = runs.size();
+        RunReader[] readers = new RunReader[k];
+        int[] heads = new int[k];
+        int[] heap = new int[k];
+        int heapSize = 0;
+        long totalBytes = 0;
+
+        try {
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r));
+                totalBytes += readers[r].end;
+            }
+            for (int r = 0; r < k; r++) {
+                if (readers[r].hasNext()) {
+                    heads[r] = readers[r].next();
+                    heap[heapSize++] = r;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) siftDown(heap, heapSize, i, heads, tracker);
+
+            try (RunWriter writer = new RunWriter(target, totalBytes)) {
+                while (heapSize > 0) {
+                    int r = heap[0];
+                    writer.write(heads[r]);
+                    if (readers[r].hasNext()) {
+                        heads[r] = readers[r].next();
+                    } else {
+                        heap[0] = heap[--heapSize];
+                    }
+                    siftDown(heap, heapSize, 0, heads, tracker);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+        return totalBytes;
+    }
+
+    private static void siftDown(int[] heap, int size, int i, int[] heads, MetricsTracker tracker) {
+        int run = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size) {
+                tracker.incComparison();
+                if (heads[heap[child + 1]] < heads[heap[child]]) child++;
+            }
+            tracker.incComparison();
+            if (heads[run] <= heads[heap[child]]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Sequential int reader over a run file, one mapped window at a time.
+     */
+    private static final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+        private IntBuffer window = IntBuffer.allocate(0);
+
+        RunReader(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            end = channel.size();
+        }
+
+        boolean hasNext() throws IOException {
+            if (window.hasRemaining()) return true;
+            if (position >= end) return false;
+            long len = Math.min(WINDOW_BYTES, end - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, len).asIntBuffer();
+            position += len;
+            return true;
+        }
+
+        int next() {
+            return window.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Sequential int writer into a file of known final size, one mapped window at a time.
+     */
+    private static final class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+        private IntBuffer window = IntBuffer.allocate(0);
+
+        RunWriter(Path file, long size) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            end = size;
+        }
+
+        void write(int value) throws IOException {
+            if (!window.hasRemaining()) {
+                long len = Math.min(WINDOW_BYTES, end - position);
+                window = channel.map(FileChannel.MapMode.READ_WRITE, position, len).asIntBuffer();
+                position += len;
+            }
+            window.put(value);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Incremental (lazy) QuickSort: yields elements in ascending order on demand.
+ * Features:
+ *  - Each next() partitions only the leftmost pending segment, with {@link QuickSort}'s
+ *    three-way random-pivot partition, until the next element is in place
+ *  - Pending segments kept on an explicit stack (expected depth O(log n))
+ *  - First k elements cost O(n + k log k) expected instead of a full O(n log n) sort
+ *  - Segments below the cutoff finished with insertion sort
+ * The array is sorted in place as iteration proceeds: after k calls, arr[0..k-1] is sorted.
+ */
+public class IncrementalSort {
+
+    private static final int CUTOFF = 16; // insertion sort cutoff
+
+    /**
+     * Iterator over arr in ascending order; partitions lazily.
+     */
+    public static <T extends Comparable<T>> Iterator<T> iterator(T[] arr, MetricsTracker tracker) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        return new Incremental<>(arr, tracker);
+    }
+
+    /**
+     * Primitive iterator over arr in ascending order; partitions lazily.
+     */
+    public static PrimitiveIterator.OfInt iterator(int[] arr, MetricsTracker tracker) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        return new IntIncremental(arr, tracker);
+    }
+
+    /**
+     * Lazy quicksort state. The stack holds bounds of the segments right of idx, nearest on top:
+     * high ≥ 0 marks an unsorted segment ending at high, ~high an already sorted one.
+     */
+    private static final class Incremental<T extends Comparable<T>> implements Iterator<T> {
+        private final T[] arr;
+        private final MetricsTracker tracker;
+        private int[] stack = new int[32];
+        private int top;
+        private int idx;          // next position to emit
+        private int sortedUntil;  // arr[..sortedUntil-1] is in final order
+
+        Incremental(T[] arr, MetricsTracker tracker) {
+            this.arr = arr;
+            this.tracker = tracker;
+            tracker.incAllocation();
+            if (arr.length > 0) stack[top++] = arr.length - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < arr.length;
+        }
+
+        @Override
+        public T next() {
+            if (idx >= arr.length) throw new NoSuchElementException();
+            while (idx >= sortedUntil) {
+                int entry = stack[--top];
+                if (entry < 0) {
+                    sortedUntil = ~entry + 1;
+                    continue;
+                }
+                int high = entry;
+                if (high - idx < CUTOFF) {
+                    QuickSort.insertionSort(arr, idx, high, tracker);
+                    sortedUntil = high + 1;
+                    continue;
+                }
+
+                // split [idx..high] into < pivot, == pivot, > pivot; only the left part is needed next
+                long bounds = QuickSort.partition(arr, idx, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
+                if (gt <= high) push(high);
+                push(~(gt - 1));
+                if (lt >= idx) push(lt);
+            }
+            return arr[idx++];
+        }
+
+        private void push(int entry) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+                tracker.incAllocation();
+            }
+            stack[top++] = entry;
+        }
+    }
+
+    private static final class IntIncremental implements PrimitiveIterator.OfInt {
+        private final int[] arr;
+        private final MetricsTracker tracker;
+        private int[] stack = new int[32];
+        private int top;
+        private int idx;          // next position to emit
+        private int sortedUntil;  // arr[..sortedUntil-1] is in final order
+
+        IntIncremental(int[] arr, MetricsTracker tracker) {
+            this.arr = arr;
+            this.tracker = tracker;
+            tracker.incAllocation();
+            if (arr.length > 0) stack[top++] = arr.length - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < arr.length;
+        }
+
+        @Override
+        public int nextInt() {
+            if (idx >= arr.length) throw new NoSuchElementException();
+            while (idx >= sortedUntil) {
+                int entry = stack[--top];
+                if (entry < 0) {
+                    sortedUntil = ~entry + 1;
+                    continue;
+                }
+                int high = entry;
+                if (high - idx < CUTOFF) {
+                    QuickSort.insertionSort(arr, idx, high, tracker);
+                    sortedUntil = high + 1;
+                    continue;
+                }
+
+                // split [idx..high] into < pivot, == pivot, > pivot; only the left part is needed next
+                long bounds = QuickSort.partition(arr, idx, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
+                if (gt <= high) push(high);
+                push(~(gt - 1));
+                if (lt >= idx) push(lt);
+            }
+            return arr[idx++];
+        }
+
+        private void push(int entry) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+                tracker.incAllocation();
+            }
+            stack[top++] = entry;
+        }
+    }
+}
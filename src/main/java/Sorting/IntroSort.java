@@ -0,0 +1,526 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.Util.PartitionUtil;
+
+/**
+ * Introspective QuickSort with pattern-defeating guards (pdqsort-style).
+ * Features:
+ *  - Median-of-3 / ninther pivot chosen by index, smaller-first recursion
+ *  - Ascending pivot sample: bounded insertion sort first; strictly descending sample:
+ *    range reversed first, so sorted and reverse-sorted input finish in near-linear time
+ *  - Budget of log2(n) highly unbalanced partitions; once spent, the subrange is heapsorted,
+ *    so the worst case is O(n log n)
+ *  - Unbalanced partitions also swap a few elements to break adversarial patterns
+ *  - Partitions that needed no swaps try a bounded insertion sort on both sides
+ *  - Pivot equal to its predecessor: the block of equal keys is split off and skipped
+ */
+public class IntroSort {
+
+    private static final int CUTOFF = 16;                 // insertion sort cutoff
+    private static final int NINTHER_THRESHOLD = 128;     // ranges above this use the ninther pivot
+    private static final int PARTIAL_INSERTION_LIMIT = 8; // moves allowed before giving up
+
+    /**
+     * Public entry point.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, log2(arr.length), true, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry point for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, log2(arr.length), true, tracker);
+        tracker.stop();
+    }
+
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    /**
+     * k-th pivot sample position (ascending): low/mid/high, or three triples for the ninther.
+     */
+    private static int samplePos(int low, int mid, int high, int samples, int k) {
+        if (samples == 3) {
+            return k == 0 ? low : (k == 1 ? mid : high);
+        }
+        int s = (high - low + 1) / 8;
+        int center = k < 3 ? low + s : (k < 6 ? mid : high - s);
+        return center + (k % 3 - 1) * s;
+    }
+
+    private static <T extends Comparable<T>> boolean less(T a, T b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a.compareTo(b) < 0;
+    }
+
+    private static boolean less(int a, int b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a < b;
+    }
+
+    /**
+     * Recursive helper: smaller side recursed, larger side looped.
+     * @param badAllowed remaining budget of highly unbalanced partitions before heapsort
+     * @param leftmost whether arr[low - 1] is outside the array (no predecessor pivot)
+     */
+    private static <T extends Comparable<T>> void sortRecursive(
+            T[] arr, int low, int high, int badAllowed, boolean leftmost, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            boolean wasBalanced = true;
+            while (true) {
+                int size = high - low + 1;
+                if (size <= CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                int pivot = choosePivot(arr, low, high, tracker);
+                boolean likelySorted = pivot < 0;
+                if (likelySorted) pivot = ~pivot;
+
+                if (likelySorted && wasBalanced && partialInsertionSort(arr, low, high, tracker)) {
+                    return;
+                }
+                PartitionUtil.swap(arr, low, pivot);
+
+                // predecessor equals pivot: the whole "<= pivot" block is final, skip it
+                if (!leftmost && !less(arr[low - 1], arr[low], tracker)) {
+                    low = partitionLeft(arr, low, high, tracker) + 1;
+                    continue;
+                }
+
+                int pivotPos = partitionRight(arr, low, high, tracker);
+                boolean alreadyPartitioned = pivotPos < 0;
+                if (alreadyPartitioned) pivotPos = ~pivotPos;
+
+                int leftSize = pivotPos - low, rightSize = high - pivotPos;
+                boolean highlyUnbalanced = leftSize < size / 8 || rightSize < size / 8;
+                wasBalanced = !highlyUnbalanced;
+
+                if (highlyUnbalanced) {
+                    if (--badAllowed == 0) {
+                        heapSort(arr, low, high, tracker);
+                        return;
+                    }
+                    breakPatterns(arr, low, pivotPos, high);
+                } else if (alreadyPartitioned
+                        && partialInsertionSort(arr, low, pivotPos - 1, tracker)
+                        && partialInsertionSort(arr, pivotPos + 1, high, tracker)) {
+                    return; // input was (nearly) sorted around the pivot
+                }
+
+                if (leftSize < rightSize) {
+                    sortRecursive(arr, low, pivotPos - 1, badAllowed, leftmost, tracker);
+                    low = pivotPos + 1;
+                    leftmost = false;
+                } else {
+                    sortRecursive(arr, pivotPos + 1, high, badAllowed, false, tracker);
+                    high = pivotPos - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Picks the median of three (ninther for large ranges) by index, without moving data.
+     * An ascending sample flags the range as likely sorted; a strictly descending sample
+     * reverses the range first. Returns the pivot index, complemented if likely sorted.
+     */
+    private static <T extends Comparable<T>> int choosePivot(T[] arr, int low, int high, MetricsTracker tracker) {
+        int size = high - low + 1;
+        int mid = low + size / 2;
+        int samples = size > NINTHER_THRESHOLD ? 9 : 3;
+
+        int descending = 0, prev = samplePos(low, mid, high, samples, 0);
+        for (int k = 1; k < samples; k++) {
+            int cur = samplePos(low, mid, high, samples, k);
+            if (less(arr[cur], arr[prev], tracker)) descending++;
+            prev = cur;
+        }
+        if (descending == samples - 1) {
+            reverseRange(arr, low, high);
+        }
+        boolean likelySorted = descending == 0 || descending == samples - 1;
+
+        int pivot;
+        if (samples == 9) {
+            int s = size / 8;
+            pivot = median3(arr,
+                    median3(arr, low, low + s, low + 2 * s, tracker),
+                    median3(arr, mid - s, mid, mid + s, tracker),
+                    median3(arr, high - 2 * s, high - s, high, tracker), tracker);
+        } else {
+            pivot = median3(arr, low, mid, high, tracker);
+        }
+        return likelySorted ? ~pivot : pivot;
+    }
+
+    /**
+     * Index of the median of arr[a], arr[b], arr[c].
+     */
+    private static <T extends Comparable<T>> int median3(T[] arr, int a, int b, int c, MetricsTracker tracker) {
+        if (less(arr[b], arr[a], tracker)) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (less(arr[c], arr[b], tracker)) {
+            b = less(arr[c], arr[a], tracker) ? a : c;
+        }
+        return b;
+    }
+
+    private static <T extends Comparable<T>> void reverseRange(T[] arr, int low, int high) {
+        while (low < high) {
+            T tmp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = tmp;
+        }
+    }
+
+    /**
+     * Partition around arr[low]: [< pivot] pivot [>= pivot].
+     * Returns the pivot position, or its bitwise complement if no swaps were needed.
+     */
+    private static <T extends Comparable<T>> int partitionRight(T[] arr, int low, int high, MetricsTracker tracker) {
+        T pivot = arr[low];
+        int i = low + 1, j = high;
+
+        while (i <= high && less(arr[i], pivot, tracker)) i++;
+        while (j > low && !less(arr[j], pivot, tracker)) j--;
+        boolean alreadyPartitioned = i > j;
+
+        while (i < j) {
+            PartitionUtil.swap(arr, i, j);
+            do i++; while (less(arr[i], pivot, tracker));
+            do j--; while (!less(arr[j], pivot, tracker));
+        }
+
+        int pivotPos = i - 1;
+        PartitionUtil.swap(arr, low, pivotPos);
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    /**
+     * Partition around arr[low]: [<= pivot] pivot [> pivot]. Used when the pivot equals
+     * its predecessor, so everything left of the returned position equals the pivot.
+     */
+    private static <T extends Comparable<T>> int partitionLeft(T[] arr, int low, int high, MetricsTracker tracker) {
+        T pivot = arr[low];
+        int i = low + 1, j = high;
+
+        while (i <= j) {
+            while (i <= j && !less(pivot, arr[i], tracker)) i++;
+            while (i <= j && less(pivot, arr[j], tracker)) j--;
+            if (i < j) PartitionUtil.swap(arr, i++, j--);
+        }
+
+        PartitionUtil.swap(arr, low, j);
+        return j;
+    }
+
+    /**
+     * Insertion sort that gives up after PARTIAL_INSERTION_LIMIT element moves.
+     * @return true if the range ended up sorted
+     */
+    private static <T extends Comparable<T>> boolean partialInsertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+        int moved = 0;
+        for (int i = low + 1; i <= high; i++) {
+            if (moved > PARTIAL_INSERTION_LIMIT) return false;
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], tracker)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+            moved += i - (j + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Swaps a few elements at fixed offsets to defeat inputs crafted against the pivot rule.
+     */
+    private static <T extends Comparable<T>> void breakPatterns(T[] arr, int low, int pivotPos, int high) {
+        int leftSize = pivotPos - low, rightSize = high - pivotPos;
+        if (leftSize > CUTOFF) {
+            PartitionUtil.swap(arr, low, low + leftSize / 4);
+            PartitionUtil.swap(arr, pivotPos - 1, pivotPos - leftSize / 4);
+        }
+        if (rightSize > CUTOFF) {
+            PartitionUtil.swap(arr, pivotPos + 1, pivotPos + 1 + rightSize / 4);
+            PartitionUtil.swap(arr, high, high - rightSize / 4);
+        }
+    }
+
+    /**
+     * Heapsort on arr[low..high]: the O(n log n) fallback once the budget is spent.
+     */
+    private static <T extends Comparable<T>> void heapSort(T[] arr, int low, int high, MetricsTracker tracker) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n, tracker);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            PartitionUtil.swap(arr, low, low + end);
+            siftDown(arr, low, 0, end, tracker);
+        }
+    }
+
+    private static <T extends Comparable<T>> void siftDown(T[] arr, int base, int i, int n, MetricsTracker tracker) {
+        T value = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && less(arr[base + child], arr[base + child + 1], tracker)) child++;
+            if (!less(value, arr[base + child], tracker)) break;
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = value;
+    }
+
+    /**
+     * Insertion sort for small subarrays.
+     */
+    private static <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], tracker)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    // --- int[] specialization ---
+
+    /**
+     * Recursive helper: smaller side recursed, larger side looped.
+     * @param badAllowed remaining budget of highly unbalanced partitions before heapsort
+     * @param leftmost whether arr[low - 1] is outside the array (no predecessor pivot)
+     */
+    private static void sortRecursive(
+            int[] arr, int low, int high, int badAllowed, boolean leftmost, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            boolean wasBalanced = true;
+            while (true) {
+                int size = high - low + 1;
+                if (size <= CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                int pivot = choosePivot(arr, low, high, tracker);
+                boolean likelySorted = pivot < 0;
+                if (likelySorted) pivot = ~pivot;
+
+                if (likelySorted && wasBalanced && partialInsertionSort(arr, low, high, tracker)) {
+                    return;
+                }
+                PartitionUtil.swap(arr, low, pivot);
+
+                // predecessor equals pivot: the whole "<= pivot" block is final, skip it
+                if (!leftmost && !less(arr[low - 1], arr[low], tracker)) {
+                    low = partitionLeft(arr, low, high, tracker) + 1;
+                    continue;
+                }
+
+                int pivotPos = partitionRight(arr, low, high, tracker);
+                boolean alreadyPartitioned = pivotPos < 0;
+                if (alreadyPartitioned) pivotPos = ~pivotPos;
+
+                int leftSize = pivotPos - low, rightSize = high - pivotPos;
+                boolean highlyUnbalanced = leftSize < size / 8 || rightSize < size / 8;
+                wasBalanced = !highlyUnbalanced;
+
+                if (highlyUnbalanced) {
+                    if (--badAllowed == 0) {
+                        heapSort(arr, low, high, tracker);
+                        return;
+                    }
+                    breakPatterns(arr, low, pivotPos, high);
+                } else if (alreadyPartitioned
+                        && partialInsertionSort(arr, low, pivotPos - 1, tracker)
+                        && partialInsertionSort(arr, pivotPos + 1, high, tracker)) {
+                    return; // input was (nearly) sorted around the pivot
+                }
+
+                if (leftSize < rightSize) {
+                    sortRecursive(arr, low, pivotPos - 1, badAllowed, leftmost, tracker);
+                    low = pivotPos + 1;
+                    leftmost = false;
+                } else {
+                    sortRecursive(arr, pivotPos + 1, high, badAllowed, false, tracker);
+                    high = pivotPos - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static int choosePivot(int[] arr, int low, int high, MetricsTracker tracker) {
+        int size = high - low + 1;
+        int mid = low + size / 2;
+        int samples = size > NINTHER_THRESHOLD ? 9 : 3;
+
+        int descending = 0, prev = samplePos(low, mid, high, samples, 0);
+        for (int k = 1; k < samples; k++) {
+            int cur = samplePos(low, mid, high, samples, k);
+            if (less(arr[cur], arr[prev], tracker)) descending++;
+            prev = cur;
+        }
+        if (descending == samples - 1) {
+            reverseRange(arr, low, high);
+        }
+        boolean likelySorted = descending == 0 || descending == samples - 1;
+
+        int pivot;
+        if (samples == 9) {
+            int s = size / 8;
+            pivot = median3(arr,
+                    median3(arr, low, low + s, low + 2 * s, tracker),
+                    median3(arr, mid - s, mid, mid + s, tracker),
+                    median3(arr, high - 2 * s, high - s, high, tracker), tracker);
+        } else {
+            pivot = median3(arr, low, mid, high, tracker);
+        }
+        return likelySorted ? ~pivot : pivot;
+    }
+
+    private static int median3(int[] arr, int a, int b, int c, MetricsTracker tracker) {
+        if (less(arr[b], arr[a], tracker)) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (less(arr[c], arr[b], tracker)) {
+            b = less(arr[c], arr[a], tracker) ? a : c;
+        }
+        return b;
+    }
+
+    private static void reverseRange(int[] arr, int low, int high) {
+        while (low < high) {
+            int tmp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = tmp;
+        }
+    }
+
+    private static int partitionRight(int[] arr, int low, int high, MetricsTracker tracker) {
+        int pivot = arr[low];
+        int i = low + 1, j = high;
+
+        while (i <= high && less(arr[i], pivot, tracker)) i++;
+        while (j > low && !less(arr[j], pivot, tracker)) j--;
+        boolean alreadyPartitioned = i > j;
+
+        while (i < j) {
+            PartitionUtil.swap(arr, i, j);
+            do i++; while (less(arr[i], pivot, tracker));
+            do j--; while (!less(arr[j], pivot, tracker));
+        }
+
+        int pivotPos = i - 1;
+        PartitionUtil.swap(arr, low, pivotPos);
+        return alreadyPartitioned ? ~pivotPos : pivotPos;
+    }
+
+    private static int partitionLeft(int[] arr, int low, int high, MetricsTracker tracker) {
+        int pivot = arr[low];
+        int i = low + 1, j = high;
+
+        while (i <= j) {
+            while (i <= j && !less(pivot, arr[i], tracker)) i++;
+            while (i <= j && less(pivot, arr[j], tracker)) j--;
+            if (i < j) PartitionUtil.swap(arr, i++, j--);
+        }
+
+        PartitionUtil.swap(arr, low, j);
+        return j;
+    }
+
+    private static boolean partialInsertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        int moved = 0;
+        for (int i = low + 1; i <= high; i++) {
+            if (moved > PARTIAL_INSERTION_LIMIT) return false;
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], tracker)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+            moved += i - (j + 1);
+        }
+        return true;
+    }
+
+    private static void breakPatterns(int[] arr, int low, int pivotPos, int high) {
+        int leftSize = pivotPos - low, rightSize = high - pivotPos;
+        if (leftSize > CUTOFF) {
+            PartitionUtil.swap(arr, low, low + leftSize / 4);
+            PartitionUtil.swap(arr, pivotPos - 1, pivotPos - leftSize / 4);
+        }
+        if (rightSize > CUTOFF) {
+            PartitionUtil.swap(arr, pivotPos + 1, pivotPos + 1 + rightSize / 4);
+            PartitionUtil.swap(arr, high, high - rightSize / 4);
+        }
+    }
+
+    private static void heapSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n, tracker);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            PartitionUtil.swap(arr, low, low + end);
+            siftDown(arr, low, 0, end, tracker);
+        }
+    }
+
+    private static void siftDown(int[] arr, int base, int i, int n, MetricsTracker tracker) {
+        int value = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && less(arr[base + child], arr[base + child + 1], tracker)) child++;
+            if (!less(value, arr[base + child], tracker)) break;
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = value;
+    }
+
+    private static void insertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], tracker)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+}
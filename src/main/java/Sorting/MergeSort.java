@@ -10,10 +10,11 @@ import java.util.Arrays;
  *  - Reusable buffer
  *  - Small-n cutoff (insertion sort)
  *  - MetricsTracker integration
+ *  - Primitive int/long/double overloads (no boxing)
  */
 public class MergeSort {
 
-    private static final int CUTOFF = 16; // threshold for insertion sort
+    static final int CUTOFF = 16; // threshold for insertion sort
 
     /**
      * Public entry for MergeSort.
@@ -28,10 +29,50 @@ public class MergeSort {
         tracker.stop();
     }
 
+    /**
+     * Public entry for MergeSort on primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        int[] buffer = Arrays.copyOf(arr, arr.length);
+        sortRecursive(arr, buffer, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for MergeSort on primitive longs.
+     */
+    public static void sort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        long[] buffer = Arrays.copyOf(arr, arr.length);
+        sortRecursive(arr, buffer, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for MergeSort on primitive doubles.
+     * Ordering follows {@link Double#compare} (same as boxed Double).
+     */
+    public static void sort(double[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        double[] buffer = Arrays.copyOf(arr, arr.length);
+        sortRecursive(arr, buffer, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
     /**
      * Recursive helper: divide, conquer, merge.
      */
-    private static <T extends Comparable<T>> void sortRecursive(
+    static <T extends Comparable<T>> void sortRecursive(
             T[] arr, T[] buffer, int low, int high, MetricsTracker tracker) {
 
         tracker.enterRecursion();
@@ -57,6 +98,75 @@ public class MergeSort {
         }
     }
 
+    static void sortRecursive(int[] arr, int[] buffer, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (high - low < CUTOFF) {
+                insertionSort(arr, low, high, tracker);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+            sortRecursive(arr, buffer, low, mid, tracker);
+            sortRecursive(arr, buffer, mid + 1, high, tracker);
+
+            tracker.incComparison();
+            if (arr[mid] <= arr[mid + 1]) {
+                return;
+            }
+
+            merge(arr, buffer, low, mid, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void sortRecursive(long[] arr, long[] buffer, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (high - low < CUTOFF) {
+                insertionSort(arr, low, high, tracker);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+            sortRecursive(arr, buffer, low, mid, tracker);
+            sortRecursive(arr, buffer, mid + 1, high, tracker);
+
+            tracker.incComparison();
+            if (arr[mid] <= arr[mid + 1]) {
+                return;
+            }
+
+            merge(arr, buffer, low, mid, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void sortRecursive(double[] arr, double[] buffer, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (high - low < CUTOFF) {
+                insertionSort(arr, low, high, tracker);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+            sortRecursive(arr, buffer, low, mid, tracker);
+            sortRecursive(arr, buffer, mid + 1, high, tracker);
+
+            tracker.incComparison();
+            if (Double.compare(arr[mid], arr[mid + 1]) <= 0) {
+                return;
+            }
+
+            merge(arr, buffer, low, mid, high, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
     /**
      * Merge two sorted halves into one.
      */
@@ -78,10 +188,58 @@ public class MergeSort {
         }
     }
 
+    private static void merge(int[] arr, int[] buffer, int low, int mid, int high, MetricsTracker tracker) {
+        System.arraycopy(arr, low, buffer, low, high - low + 1);
+
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                arr[k] = buffer[j++];
+            } else if (j > high) {
+                arr[k] = buffer[i++];
+            } else {
+                tracker.incComparison();
+                arr[k] = (buffer[i] <= buffer[j]) ? buffer[i++] : buffer[j++];
+            }
+        }
+    }
+
+    private static void merge(long[] arr, long[] buffer, int low, int mid, int high, MetricsTracker tracker) {
+        System.arraycopy(arr, low, buffer, low, high - low + 1);
+
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                arr[k] = buffer[j++];
+            } else if (j > high) {
+                arr[k] = buffer[i++];
+            } else {
+                tracker.incComparison();
+                arr[k] = (buffer[i] <= buffer[j]) ? buffer[i++] : buffer[j++];
+            }
+        }
+    }
+
+    private static void merge(double[] arr, double[] buffer, int low, int mid, int high, MetricsTracker tracker) {
+        System.arraycopy(arr, low, buffer, low, high - low + 1);
+
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                arr[k] = buffer[j++];
+            } else if (j > high) {
+                arr[k] = buffer[i++];
+            } else {
+                tracker.incComparison();
+                arr[k] = (Double.compare(buffer[i], buffer[j]) <= 0) ? buffer[i++] : buffer[j++];
+            }
+        }
+    }
+
     /**
      * Insertion sort for small subarrays.
      */
-    private static <T extends Comparable<T>> void insertionSort(
+    static <T extends Comparable<T>> void insertionSort(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
         for (int i = low + 1; i <= high; i++) {
@@ -96,4 +254,46 @@ public class MergeSort {
             arr[j + 1] = key;
         }
     }
+
+    static void insertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(long[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(double[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(arr[j], key) > 0) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
 }
@@ -0,0 +1,498 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+
+/**
+ * Natural (run-adaptive) MergeSort.
+ * Features:
+ *  - Detects ascending and strictly descending runs (descending runs reversed in place)
+ *  - Short runs extended to a minimum length with insertion sort
+ *  - Stack-based merge policy keeps merges balanced (TimSort invariants)
+ *  - Galloping merges: already-placed prefixes/suffixes are skipped and long
+ *    winning streaks are copied in bulk after an exponential search
+ *  - Near-sorted input costs close to n comparisons; run count reported via MetricsTracker
+ */
+public class NaturalMergeSort {
+
+    private static final int MIN_MERGE = 32;  // arrays shorter than this are one insertion-sorted run
+    private static final int MIN_GALLOP = 7;  // consecutive wins before switching to galloping
+    private static final int MAX_STACK = 85;  // enough for any int-length array under the invariants
+
+    /**
+     * Public entry for natural MergeSort.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        Merger<T> merger = new Merger<>(arr, Arrays.copyOf(arr, arr.length), tracker);
+
+        int n = arr.length, lo = 0, minRun = minRunLength(n);
+        while (lo < n) {
+            int runLen = countRunAndMakeAscending(arr, lo, n, tracker);
+            tracker.incRun();
+            if (runLen < minRun) {
+                int force = Math.min(n - lo, minRun);
+                insertionSort(arr, lo, lo + runLen, lo + force - 1, tracker);
+                runLen = force;
+            }
+            merger.pushRun(lo, runLen);
+            merger.mergeCollapse();
+            lo += runLen;
+        }
+        merger.mergeForceCollapse();
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        IntMerger merger = new IntMerger(arr, new int[arr.length], tracker);
+
+        int n = arr.length, lo = 0, minRun = minRunLength(n);
+        while (lo < n) {
+            int runLen = countRunAndMakeAscending(arr, lo, n, tracker);
+            tracker.incRun();
+            if (runLen < minRun) {
+                int force = Math.min(n - lo, minRun);
+                insertionSort(arr, lo, lo + runLen, lo + force - 1, tracker);
+                runLen = force;
+            }
+            merger.pushRun(lo, runLen);
+            merger.mergeCollapse();
+            lo += runLen;
+        }
+        merger.mergeForceCollapse();
+        tracker.stop();
+    }
+
+    /**
+     * Minimum run length: n itself if small, otherwise a value in [MIN_MERGE/2, MIN_MERGE]
+     * such that n / minRun is close to (but not above) a power of two.
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Merge state for one sort call: array, buffer and the pending-run stack.
+     */
+    private static final class Merger<T extends Comparable<T>> {
+        private final T[] arr;
+        private final T[] buffer;
+        private final int[] runBase = new int[MAX_STACK];
+        private final int[] runLen = new int[MAX_STACK];
+        private int stackSize;
+        private final MetricsTracker tracker;
+
+        Merger(T[] arr, T[] buffer, MetricsTracker tracker) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.tracker = tracker;
+        }
+
+        void pushRun(int base, int len) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = len;
+            stackSize++;
+        }
+
+        /**
+         * Restores the stack invariants len[i-2] > len[i-1] + len[i] and len[i-1] > len[i],
+         * which keep merges balanced and the stack O(log n) deep.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                        || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges runs i and i + 1 after trimming the parts that are already in place.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i], len1 = runLen[i];
+            int base2 = runBase[i + 1], len2 = runLen[i + 1];
+
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            // elements of run1 <= run2[0] are already in place
+            int k = gallopRight(arr[base2], arr, base1, len1, tracker);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            // elements of run2 >= run1[last] are already in place
+            len2 = gallopLeft(arr[base1 + len1 - 1], arr, base2, len2, tracker);
+            if (len2 == 0) return;
+
+            mergeLo(base1, len1, base2, len2);
+        }
+
+        /**
+         * Copies run1 to the buffer and merges forward into arr.
+         * Switches to galloping once one side wins MIN_GALLOP times in a row.
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            System.arraycopy(arr, base1, buffer, 0, len1);
+
+            int i = 0, j = base2, dest = base1;
+            int endI = len1, endJ = base2 + len2;
+
+            while (i < endI && j < endJ) {
+                int count1 = 0, count2 = 0;
+                while (i < endI && j < endJ) {
+                    tracker.incComparison();
+                    if (arr[j].compareTo(buffer[i]) < 0) {
+                        arr[dest++] = arr[j++];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    } else {
+                        arr[dest++] = buffer[i++];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    }
+                }
+
+                while (i < endI && j < endJ) {
+                    count1 = gallopRight(arr[j], buffer, i, endI - i, tracker);
+                    System.arraycopy(buffer, i, arr, dest, count1);
+                    dest += count1;
+                    i += count1;
+                    if (i >= endI) break;
+
+                    count2 = gallopLeft(buffer[i], arr, j, endJ - j, tracker);
+                    System.arraycopy(arr, j, arr, dest, count2);
+                    dest += count2;
+                    j += count2;
+                    if (j >= endJ) break;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // leftover run2 elements are already in place (dest == j)
+            if (i < endI) System.arraycopy(buffer, i, arr, dest, endI - i);
+        }
+    }
+
+    /**
+     * Length of the run starting at lo; a strictly descending run is reversed in place.
+     */
+    private static <T extends Comparable<T>> int countRunAndMakeAscending(T[] arr, int lo, int hi, MetricsTracker tracker) {
+        int runHi = lo + 1;
+        if (runHi == hi) return 1;
+
+        tracker.incComparison();
+        if (arr[runHi++].compareTo(arr[lo]) < 0) {
+            while (runHi < hi) {
+                tracker.incComparison();
+                if (arr[runHi].compareTo(arr[runHi - 1]) >= 0) break;
+                runHi++;
+            }
+            reverseRange(arr, lo, runHi - 1);
+        } else {
+            while (runHi < hi) {
+                tracker.incComparison();
+                if (arr[runHi].compareTo(arr[runHi - 1]) < 0) break;
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private static <T extends Comparable<T>> void reverseRange(T[] arr, int low, int high) {
+        while (low < high) {
+            T tmp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = tmp;
+        }
+    }
+
+    /**
+     * Insertion sort of arr[low..high] where arr[low..start-1] is already sorted.
+     */
+    private static <T extends Comparable<T>> void insertionSort(T[] arr, int low, int start, int high, MetricsTracker tracker) {
+        for (int i = start; i <= high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= low && key.compareTo(arr[j]) < 0) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Number of elements in a[base..base+len-1] strictly less than key (leftmost insertion point).
+     * Exponential probe from the left, then binary search.
+     */
+    private static <T extends Comparable<T>> int gallopLeft(T key, T[] a, int base, int len, MetricsTracker tracker) {
+        int lo = 0, hi = 1;
+        while (hi <= len) {
+            tracker.incComparison();
+            if (a[base + hi - 1].compareTo(key) >= 0) break;
+            lo = hi;
+            hi = (hi > len >>> 1) ? len + 1 : hi << 1;
+        }
+        int r = Math.min(hi - 1, len);
+        while (lo < r) {
+            int m = (lo + r) >>> 1;
+            tracker.incComparison();
+            if (a[base + m].compareTo(key) < 0) lo = m + 1;
+            else r = m;
+        }
+        return lo;
+    }
+
+    /**
+     * Number of elements in a[base..base+len-1] less than or equal to key (rightmost insertion point).
+     */
+    private static <T extends Comparable<T>> int gallopRight(T key, T[] a, int base, int len, MetricsTracker tracker) {
+        int lo = 0, hi = 1;
+        while (hi <= len) {
+            tracker.incComparison();
+            if (key.compareTo(a[base + hi - 1]) < 0) break;
+            lo = hi;
+            hi = (hi > len >>> 1) ? len + 1 : hi << 1;
+        }
+        int r = Math.min(hi - 1, len);
+        while (lo < r) {
+            int m = (lo + r) >>> 1;
+            tracker.incComparison();
+            if (key.compareTo(a[base + m]) < 0) r = m;
+            else lo = m + 1;
+        }
+        return lo;
+    }
+
+    // --- int[] specialization ---
+
+    private static final class IntMerger {
+        private final int[] arr;
+        private final int[] buffer;
+        private final int[] runBase = new int[MAX_STACK];
+        private final int[] runLen = new int[MAX_STACK];
+        private int stackSize;
+        private final MetricsTracker tracker;
+
+        IntMerger(int[] arr, int[] buffer, MetricsTracker tracker) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.tracker = tracker;
+        }
+
+        void pushRun(int base, int len) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = len;
+            stackSize++;
+        }
+
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                        || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i], len1 = runLen[i];
+            int base2 = runBase[i + 1], len2 = runLen[i + 1];
+
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            // elements of run1 <= run2[0] are already in place
+            int k = gallopRight(arr[base2], arr, base1, len1, tracker);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            // elements of run2 >= run1[last] are already in place
+            len2 = gallopLeft(arr[base1 + len1 - 1], arr, base2, len2, tracker);
+            if (len2 == 0) return;
+
+            mergeLo(base1, len1, base2, len2);
+        }
+
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            System.arraycopy(arr, base1, buffer, 0, len1);
+
+            int i = 0, j = base2, dest = base1;
+            int endI = len1, endJ = base2 + len2;
+
+            while (i < endI && j < endJ) {
+                int count1 = 0, count2 = 0;
+                while (i < endI && j < endJ) {
+                    tracker.incComparison();
+                    if (arr[j] < buffer[i]) {
+                        arr[dest++] = arr[j++];
+                        count2++;
+                        count1 = 0;
+                        if (count2 >= MIN_GALLOP) break;
+                    } else {
+                        arr[dest++] = buffer[i++];
+                        count1++;
+                        count2 = 0;
+                        if (count1 >= MIN_GALLOP) break;
+                    }
+                }
+
+                while (i < endI && j < endJ) {
+                    count1 = gallopRight(arr[j], buffer, i, endI - i, tracker);
+                    System.arraycopy(buffer, i, arr, dest, count1);
+                    dest += count1;
+                    i += count1;
+                    if (i >= endI) break;
+
+                    count2 = gallopLeft(buffer[i], arr, j, endJ - j, tracker);
+                    System.arraycopy(arr, j, arr, dest, count2);
+                    dest += count2;
+                    j += count2;
+                    if (j >= endJ) break;
+
+                    if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) break;
+                }
+            }
+
+            // leftover run2 elements are already in place (dest == j)
+            if (i < endI) System.arraycopy(buffer, i, arr, dest, endI - i);
+        }
+    }
+
+    private static int countRunAndMakeAscending(int[] arr, int lo, int hi, MetricsTracker tracker) {
+        int runHi = lo + 1;
+        if (runHi == hi) return 1;
+
+        tracker.incComparison();
+        if (arr[runHi++] < arr[lo]) {
+            while (runHi < hi) {
+                tracker.incComparison();
+                if (arr[runHi] >= arr[runHi - 1]) break;
+                runHi++;
+            }
+            reverseRange(arr, lo, runHi - 1);
+        } else {
+            while (runHi < hi) {
+                tracker.incComparison();
+                if (arr[runHi] < arr[runHi - 1]) break;
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(int[] arr, int low, int high) {
+        while (low < high) {
+            int tmp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = tmp;
+        }
+    }
+
+    private static void insertionSort(int[] arr, int low, int start, int high, MetricsTracker tracker) {
+        for (int i = start; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && key < arr[j]) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    private static int gallopLeft(int key, int[] a, int base, int len, MetricsTracker tracker) {
+        int lo = 0, hi = 1;
+        while (hi <= len) {
+            tracker.incComparison();
+            if (a[base + hi - 1] >= key) break;
+            lo = hi;
+            hi = (hi > len >>> 1) ? len + 1 : hi << 1;
+        }
+        int r = Math.min(hi - 1, len);
+        while (lo < r) {
+            int m = (lo + r) >>> 1;
+            tracker.incComparison();
+            if (a[base + m] < key) lo = m + 1;
+            else r = m;
+        }
+        return lo;
+    }
+
+    private static int gallopRight(int key, int[] a, int base, int len, MetricsTracker tracker) {
+        int lo = 0, hi = 1;
+        while (hi <= len) {
+            tracker.incComparison();
+            if (key < a[base + hi - 1]) break;
+            lo = hi;
+            hi = (hi > len >>> 1) ? len + 1 : hi << 1;
+        }
+        int r = Math.min(hi - 1, len);
+        while (lo < r) {
+            int m = (lo + r) >>> 1;
+            tracker.incComparison();
+            if (key < a[base + m]) r = m;
+            else lo = m + 1;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,334 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel MergeSort on the common ForkJoinPool.
+ * Features:
+ *  - Halves sorted as forked RecursiveActions above a sequential threshold
+ *  - Below the threshold falls back to {@link MergeSort}'s sequential recursion
+ *  - Single buffer shared by every task (each task owns a disjoint range)
+ *  - Divide-and-conquer merge (binary-search split) so top-level merges also run in parallel
+ *  - Per-task MetricsTracker folded into the parent on join (no shared counters)
+ */
+public class ParallelMergeSort {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 13; // sequential cutoff (elements)
+
+    /**
+     * Public entry with the default sequential threshold.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        sort(arr, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Public entry.
+     * @param threshold ranges at most this long are sorted/merged sequentially
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, int threshold, MetricsTracker tracker) {
+        checkThreshold(threshold);
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        T[] buffer = Arrays.copyOf(arr, arr.length);
+        ForkJoinPool.commonPool().invoke(new SortTask<>(arr, buffer, 0, arr.length - 1, threshold, tracker));
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for primitive ints with the default sequential threshold.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        sort(arr, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Public entry for primitive ints.
+     * @param threshold ranges at most this long are sorted/merged sequentially
+     */
+    public static void sort(int[] arr, int threshold, MetricsTracker tracker) {
+        checkThreshold(threshold);
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        tracker.incAllocation(); // buffer allocation
+        int[] buffer = Arrays.copyOf(arr, arr.length);
+        ForkJoinPool.commonPool().invoke(new IntSortTask(arr, buffer, 0, arr.length - 1, threshold, tracker));
+        tracker.stop();
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+    }
+
+    /**
+     * Sorts arr[low..high]: forks both halves, then merges them through the shared buffer.
+     */
+    private static final class SortTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] arr, buffer;
+        private final int low, high, threshold;
+        private final MetricsTracker tracker;
+
+        SortTask(T[] arr, T[] buffer, int low, int high, int threshold, MetricsTracker tracker) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                MergeSort.sortRecursive(arr, buffer, low, high, tracker);
+                return;
+            }
+
+            tracker.enterRecursion();
+            try {
+                int mid = low + (high - low) / 2;
+                MetricsTracker leftTracker = new MetricsTracker();
+                MetricsTracker rightTracker = new MetricsTracker();
+                invokeAll(new SortTask<>(arr, buffer, low, mid, threshold, leftTracker),
+                        new SortTask<>(arr, buffer, mid + 1, high, threshold, rightTracker));
+                tracker.mergeFrom(leftTracker);
+                tracker.mergeFrom(rightTracker);
+
+                // optimization: skip merge if already sorted
+                tracker.incComparison();
+                if (arr[mid].compareTo(arr[mid + 1]) <= 0) {
+                    return;
+                }
+
+                System.arraycopy(arr, low, buffer, low, high - low + 1);
+                MetricsTracker mergeTracker = new MetricsTracker();
+                new MergeTask<>(buffer, low, mid, mid + 1, high, arr, low, threshold, mergeTracker).invoke();
+                tracker.mergeFrom(mergeTracker);
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+    }
+
+    /**
+     * Merges src[lo1..hi1] and src[lo2..hi2] into dst starting at dstLow.
+     * Splits at the median of the longer run and binary-searches its position in the other,
+     * so both halves of the output can be produced independently (stable: ties go to run 1).
+     */
+    private static final class MergeTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] src, dst;
+        private final int lo1, hi1, lo2, hi2, dstLow, threshold;
+        private final MetricsTracker tracker;
+
+        MergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int dstLow,
+                  int threshold, MetricsTracker tracker) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dstLow = dstLow;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1, n2 = hi2 - lo2 + 1;
+            if (n1 == 0 || n2 == 0 || n1 + n2 <= Math.max(threshold, 2)) {
+                mergeSequential();
+                return;
+            }
+
+            int split1, split2;
+            if (n1 >= n2) {
+                split1 = lo1 + n1 / 2;
+                split2 = lowerBound(src, lo2, hi2, src[split1], tracker); // run-2 elements < pivot
+            } else {
+                split2 = lo2 + n2 / 2;
+                split1 = upperBound(src, lo1, hi1, src[split2], tracker); // run-1 elements <= pivot
+            }
+            int dstSplit = dstLow + (split1 - lo1) + (split2 - lo2);
+
+            MetricsTracker leftTracker = new MetricsTracker();
+            MetricsTracker rightTracker = new MetricsTracker();
+            invokeAll(new MergeTask<>(src, lo1, split1 - 1, lo2, split2 - 1, dst, dstLow, threshold, leftTracker),
+                    new MergeTask<>(src, split1, hi1, split2, hi2, dst, dstSplit, threshold, rightTracker));
+            tracker.mergeFrom(leftTracker);
+            tracker.mergeFrom(rightTracker);
+        }
+
+        private void mergeSequential() {
+            int i = lo1, j = lo2, k = dstLow;
+            while (i <= hi1 && j <= hi2) {
+                tracker.incComparison();
+                dst[k++] = (src[i].compareTo(src[j]) <= 0) ? src[i++] : src[j++];
+            }
+            while (i <= hi1) dst[k++] = src[i++];
+            while (j <= hi2) dst[k++] = src[j++];
+        }
+    }
+
+    /**
+     * First index in a[low..high] whose element is >= key (high + 1 if none).
+     */
+    private static <T extends Comparable<T>> int lowerBound(T[] a, int low, int high, T key, MetricsTracker tracker) {
+        int lo = low, hi = high + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            tracker.incComparison();
+            if (a[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * First index in a[low..high] whose element is > key (high + 1 if none).
+     */
+    private static <T extends Comparable<T>> int upperBound(T[] a, int low, int high, T key, MetricsTracker tracker) {
+        int lo = low, hi = high + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            tracker.incComparison();
+            if (a[mid].compareTo(key) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // --- int[] specialization ---
+
+    private static final class IntSortTask extends RecursiveAction {
+        private final int[] arr, buffer;
+        private final int low, high, threshold;
+        private final MetricsTracker tracker;
+
+        IntSortTask(int[] arr, int[] buffer, int low, int high, int threshold, MetricsTracker tracker) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                MergeSort.sortRecursive(arr, buffer, low, high, tracker);
+                return;
+            }
+
+            tracker.enterRecursion();
+            try {
+                int mid = low + (high - low) / 2;
+                MetricsTracker leftTracker = new MetricsTracker();
+                MetricsTracker rightTracker = new MetricsTracker();
+                invokeAll(new IntSortTask(arr, buffer, low, mid, threshold, leftTracker),
+                        new IntSortTask(arr, buffer, mid + 1, high, threshold, rightTracker));
+                tracker.mergeFrom(leftTracker);
+                tracker.mergeFrom(rightTracker);
+
+                tracker.incComparison();
+                if (arr[mid] <= arr[mid + 1]) {
+                    return;
+                }
+
+                System.arraycopy(arr, low, buffer, low, high - low + 1);
+                MetricsTracker mergeTracker = new MetricsTracker();
+                new IntMergeTask(buffer, low, mid, mid + 1, high, arr, low, threshold, mergeTracker).invoke();
+                tracker.mergeFrom(mergeTracker);
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+    }
+
+    private static final class IntMergeTask extends RecursiveAction {
+        private final int[] src, dst;
+        private final int lo1, hi1, lo2, hi2, dstLow, threshold;
+        private final MetricsTracker tracker;
+
+        IntMergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int dstLow,
+                     int threshold, MetricsTracker tracker) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dstLow = dstLow;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1, n2 = hi2 - lo2 + 1;
+            if (n1 == 0 || n2 == 0 || n1 + n2 <= Math.max(threshold, 2)) {
+                mergeSequential();
+                return;
+            }
+
+            int split1, split2;
+            if (n1 >= n2) {
+                split1 = lo1 + n1 / 2;
+                split2 = lowerBound(src, lo2, hi2, src[split1], tracker);
+            } else {
+                split2 = lo2 + n2 / 2;
+                split1 = upperBound(src, lo1, hi1, src[split2], tracker);
+            }
+            int dstSplit = dstLow + (split1 - lo1) + (split2 - lo2);
+
+            MetricsTracker leftTracker = new MetricsTracker();
+            MetricsTracker rightTracker = new MetricsTracker();
+            invokeAll(new IntMergeTask(src, lo1, split1 - 1, lo2, split2 - 1, dst, dstLow, threshold, leftTracker),
+                    new IntMergeTask(src, split1, hi1, split2, hi2, dst, dstSplit, threshold, rightTracker));
+            tracker.mergeFrom(leftTracker);
+            tracker.mergeFrom(rightTracker);
+        }
+
+        private void mergeSequential() {
+            int i = lo1, j = lo2, k = dstLow;
+            while (i <= hi1 && j <= hi2) {
+                tracker.incComparison();
+                dst[k++] = (src[i] <= src[j]) ? src[i++] : src[j++];
+            }
+            while (i <= hi1) dst[k++] = src[i++];
+            while (j <= hi2) dst[k++] = src[j++];
+        }
+    }
+
+    private static int lowerBound(int[] a, int low, int high, int key, MetricsTracker tracker) {
+        int lo = low, hi = high + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            tracker.incComparison();
+            if (a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] a, int low, int high, int key, MetricsTracker tracker) {
+        int lo = low, hi = high + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            tracker.incComparison();
+            if (a[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
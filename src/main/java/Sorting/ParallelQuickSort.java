@@ -0,0 +1,179 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel QuickSort on the common ForkJoinPool.
+ * Features:
+ *  - Above the threshold: three-way partition with {@link QuickSort}'s random pivot, fork the
+ *    smaller side and keep partitioning the larger one (task nesting stays O(log n))
+ *  - Below the threshold: {@link QuickSort}'s sequential smaller-first recursion
+ *  - Pivots drawn from ThreadLocalRandom (no shared RNG state between workers)
+ *  - Per-task MetricsTracker folded into the parent on join, so comparison totals
+ *    and max depth stay exact with any number of workers
+ */
+public class ParallelQuickSort {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 13; // sequential cutoff (elements)
+
+    /**
+     * Public entry with the default sequential threshold.
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+        sort(arr, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Public entry.
+     * @param threshold ranges at most this long are sorted sequentially
+     */
+    public static <T extends Comparable<T>> void sort(T[] arr, int threshold, MetricsTracker tracker) {
+        checkThreshold(threshold);
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        ForkJoinPool.commonPool().invoke(new SortTask<>(arr, 0, arr.length - 1, threshold, tracker));
+        tracker.stop();
+    }
+
+    /**
+     * Public entry for primitive ints with the default sequential threshold.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        sort(arr, DEFAULT_THRESHOLD, tracker);
+    }
+
+    /**
+     * Public entry for primitive ints.
+     * @param threshold ranges at most this long are sorted sequentially
+     */
+    public static void sort(int[] arr, int threshold, MetricsTracker tracker) {
+        checkThreshold(threshold);
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        ForkJoinPool.commonPool().invoke(new IntSortTask(arr, 0, arr.length - 1, threshold, tracker));
+        tracker.stop();
+    }
+
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+    }
+
+    /**
+     * Partitions arr[low..high] until the remaining range is below the threshold,
+     * forking each smaller side as a subtask.
+     */
+    private static final class SortTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] arr;
+        private final int low, high, threshold;
+        private final MetricsTracker tracker;
+
+        SortTask(T[] arr, int low, int high, int threshold, MetricsTracker tracker) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                if (low < high) QuickSort.sortRecursive(arr, low, high, tracker);
+                return;
+            }
+
+            tracker.enterRecursion();
+            try {
+                List<SortTask<T>> forked = new ArrayList<>();
+                int lo = low, hi = high;
+                while (hi - lo >= threshold) {
+                    long bounds = QuickSort.partition(arr, lo, hi, tracker);
+                    int lt = (int) (bounds >> 32), gt = (int) bounds;
+
+                    // fork the smaller side, keep partitioning the larger one in this task
+                    SortTask<T> child;
+                    if (lt - lo < hi - gt) {
+                        child = new SortTask<>(arr, lo, lt, threshold, new MetricsTracker());
+                        lo = gt;
+                    } else {
+                        child = new SortTask<>(arr, gt, hi, threshold, new MetricsTracker());
+                        hi = lt;
+                    }
+                    child.fork();
+                    forked.add(child);
+                }
+                if (lo < hi) QuickSort.sortRecursive(arr, lo, hi, tracker);
+
+                for (int i = forked.size() - 1; i >= 0; i--) {
+                    SortTask<T> child = forked.get(i);
+                    child.join();
+                    tracker.mergeFrom(child.tracker);
+                }
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+    }
+
+    private static final class IntSortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int low, high, threshold;
+        private final MetricsTracker tracker;
+
+        IntSortTask(int[] arr, int low, int high, int threshold, MetricsTracker tracker) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                if (low < high) QuickSort.sortRecursive(arr, low, high, tracker);
+                return;
+            }
+
+            tracker.enterRecursion();
+            try {
+                List<IntSortTask> forked = new ArrayList<>();
+                int lo = low, hi = high;
+                while (hi - lo >= threshold) {
+                    long bounds = QuickSort.partition(arr, lo, hi, tracker);
+                    int lt = (int) (bounds >> 32), gt = (int) bounds;
+
+                    // fork the smaller side, keep partitioning the larger one in this task
+                    IntSortTask child;
+                    if (lt - lo < hi - gt) {
+                        child = new IntSortTask(arr, lo, lt, threshold, new MetricsTracker());
+                        lo = gt;
+                    } else {
+                        child = new IntSortTask(arr, gt, hi, threshold, new MetricsTracker());
+                        hi = lt;
+                    }
+                    child.fork();
+                    forked.add(child);
+                }
+                if (lo < hi) QuickSort.sortRecursive(arr, lo, hi, tracker);
+
+                for (int i = forked.size() - 1; i >= 0; i--) {
+                    IntSortTask child = forked.get(i);
+                    child.join();
+                    tracker.mergeFrom(child.tracker);
+                }
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+    }
+}
@@ -3,15 +3,17 @@ package Sorting;
 import org.Util.MetricsTracker;
 import org.Util.PartitionUtil;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * QuickSort with randomized pivot, smaller-first recursion,
+ * QuickSort with randomized pivot (thread-local RNG), smaller-first recursion,
  * and bounded stack depth (≈ O(log n)).
+ * Three-way (fat pivot) partitioning: keys equal to the pivot are set aside as they
+ * are met, so k distinct values sort in O(n log k).
+ * Primitive int/long/double overloads avoid boxing.
  */
 public class QuickSort {
 
-    private static final Random RANDOM = new Random();
     private static final int CUTOFF = 16; // insertion sort cutoff
 
     /**
@@ -26,10 +28,44 @@ public class QuickSort {
         tracker.stop();
     }
 
+    /**
+     * Public entry point for primitive ints.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry point for primitive longs.
+     */
+    public static void sort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Public entry point for primitive doubles.
+     * Ordering follows {@link Double#compare} (same as boxed Double).
+     */
+    public static void sort(double[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        sortRecursive(arr, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
     /**
      * Recursive helper: recurse on smaller partition, iterate on larger one.
      */
-    private static <T extends Comparable<T>> void sortRecursive(
+    static <T extends Comparable<T>> void sortRecursive(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
         tracker.enterRecursion();
@@ -40,15 +76,91 @@ public class QuickSort {
                     return;
                 }
 
-                int pivotIndex = partition(arr, low, high, tracker);
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
+
+                // recurse on smaller side first; keys equal to the pivot are already in place
+                if (lt - low < high - gt) {
+                    sortRecursive(arr, low, lt, tracker);
+                    low = gt; // tail recursion elimination
+                } else {
+                    sortRecursive(arr, gt, high, tracker);
+                    high = lt;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    static void sortRecursive(int[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
 
-                // recurse on smaller side first
-                if (pivotIndex - low < high - pivotIndex) {
-                    sortRecursive(arr, low, pivotIndex - 1, tracker);
-                    low = pivotIndex + 1; // tail recursion elimination
+                if (lt - low < high - gt) {
+                    sortRecursive(arr, low, lt, tracker);
+                    low = gt;
                 } else {
-                    sortRecursive(arr, pivotIndex + 1, high, tracker);
-                    high = pivotIndex - 1;
+                    sortRecursive(arr, gt, high, tracker);
+                    high = lt;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void sortRecursive(long[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
+
+                if (lt - low < high - gt) {
+                    sortRecursive(arr, low, lt, tracker);
+                    low = gt;
+                } else {
+                    sortRecursive(arr, gt, high, tracker);
+                    high = lt;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void sortRecursive(double[] arr, int low, int high, MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    insertionSort(arr, low, high, tracker);
+                    return;
+                }
+
+                long bounds = partition(arr, low, high, tracker);
+                int lt = (int) (bounds >> 32), gt = (int) bounds;
+
+                if (lt - low < high - gt) {
+                    sortRecursive(arr, low, lt, tracker);
+                    low = gt;
+                } else {
+                    sortRecursive(arr, gt, high, tracker);
+                    high = lt;
                 }
             }
         } finally {
@@ -57,38 +169,161 @@ public class QuickSort {
     }
 
     /**
-     * Partition with random pivot.
+     * Three-way (Bentley–McIlroy) partition with random pivot.
+     * Keys equal to the pivot are parked at both ends during the scan and swapped into
+     * the middle at the end, so runs of duplicates are never partitioned again.
+     * Returns (lt << 32) | gt: arr[low..lt] < pivot, arr[lt+1..gt-1] == pivot, arr[gt..high] > pivot.
      */
-    private static <T extends Comparable<T>> int partition(
+    static <T extends Comparable<T>> long partition(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
-        int randomIndex = low + RANDOM.nextInt(high - low + 1);
+        int randomIndex = low + ThreadLocalRandom.current().nextInt(high - low + 1);
         PartitionUtil.swap(arr, low, randomIndex);
 
         T pivot = arr[low];
         int i = low, j = high + 1;
+        int p = low, q = high + 1; // arr[low..p] and arr[q..high] hold keys equal to the pivot
+
+        while (true) {
+            int cmpI, cmpJ;
+            while (true) {
+                tracker.incComparison();
+                cmpI = arr[++i].compareTo(pivot);
+                if (cmpI >= 0 || i == high) break;
+            }
+            while (true) {
+                tracker.incComparison();
+                cmpJ = arr[--j].compareTo(pivot);
+                if (cmpJ <= 0 || j == low) break;
+            }
+
+            if (i == j && cmpI == 0) PartitionUtil.swap(arr, ++p, i);
+            if (i >= j) break;
+
+            PartitionUtil.swap(arr, i, j);
+            if (cmpJ == 0) PartitionUtil.swap(arr, ++p, i); // arr[i] now holds the old arr[j]
+            if (cmpI == 0) PartitionUtil.swap(arr, --q, j);
+        }
+
+        // swap the parked equal keys into the middle
+        i = j + 1;
+        for (int k = low; k <= p; k++) PartitionUtil.swap(arr, k, j--);
+        for (int k = high; k >= q; k--) PartitionUtil.swap(arr, k, i++);
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    static long partition(int[] arr, int low, int high, MetricsTracker tracker) {
+        int randomIndex = low + ThreadLocalRandom.current().nextInt(high - low + 1);
+        PartitionUtil.swap(arr, low, randomIndex);
+
+        int pivot = arr[low];
+        int i = low, j = high + 1;
+        int p = low, q = high + 1; // arr[low..p] and arr[q..high] hold keys equal to the pivot
+
+        while (true) {
+            int cmpI, cmpJ;
+            while (true) {
+                tracker.incComparison();
+                cmpI = Integer.compare(arr[++i], pivot);
+                if (cmpI >= 0 || i == high) break;
+            }
+            while (true) {
+                tracker.incComparison();
+                cmpJ = Integer.compare(arr[--j], pivot);
+                if (cmpJ <= 0 || j == low) break;
+            }
+
+            if (i == j && cmpI == 0) PartitionUtil.swap(arr, ++p, i);
+            if (i >= j) break;
+
+            PartitionUtil.swap(arr, i, j);
+            if (cmpJ == 0) PartitionUtil.swap(arr, ++p, i); // arr[i] now holds the old arr[j]
+            if (cmpI == 0) PartitionUtil.swap(arr, --q, j);
+        }
+
+        // swap the parked equal keys into the middle
+        i = j + 1;
+        for (int k = low; k <= p; k++) PartitionUtil.swap(arr, k, j--);
+        for (int k = high; k >= q; k--) PartitionUtil.swap(arr, k, i++);
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    private static long partition(long[] arr, int low, int high, MetricsTracker tracker) {
+        int randomIndex = low + ThreadLocalRandom.current().nextInt(high - low + 1);
+        PartitionUtil.swap(arr, low, randomIndex);
+
+        long pivot = arr[low];
+        int i = low, j = high + 1;
+        int p = low, q = high + 1; // arr[low..p] and arr[q..high] hold keys equal to the pivot
+
+        while (true) {
+            int cmpI, cmpJ;
+            while (true) {
+                tracker.incComparison();
+                cmpI = Long.compare(arr[++i], pivot);
+                if (cmpI >= 0 || i == high) break;
+            }
+            while (true) {
+                tracker.incComparison();
+                cmpJ = Long.compare(arr[--j], pivot);
+                if (cmpJ <= 0 || j == low) break;
+            }
+
+            if (i == j && cmpI == 0) PartitionUtil.swap(arr, ++p, i);
+            if (i >= j) break;
+
+            PartitionUtil.swap(arr, i, j);
+            if (cmpJ == 0) PartitionUtil.swap(arr, ++p, i); // arr[i] now holds the old arr[j]
+            if (cmpI == 0) PartitionUtil.swap(arr, --q, j);
+        }
+
+        // swap the parked equal keys into the middle
+        i = j + 1;
+        for (int k = low; k <= p; k++) PartitionUtil.swap(arr, k, j--);
+        for (int k = high; k >= q; k--) PartitionUtil.swap(arr, k, i++);
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    private static long partition(double[] arr, int low, int high, MetricsTracker tracker) {
+        int randomIndex = low + ThreadLocalRandom.current().nextInt(high - low + 1);
+        PartitionUtil.swap(arr, low, randomIndex);
+
+        double pivot = arr[low];
+        int i = low, j = high + 1;
+        int p = low, q = high + 1; // arr[low..p] and arr[q..high] hold keys equal to the pivot
 
         while (true) {
-            while (++i <= high) {
+            int cmpI, cmpJ;
+            while (true) {
                 tracker.incComparison();
-                if (arr[i].compareTo(pivot) > 0) break;
+                cmpI = Double.compare(arr[++i], pivot);
+                if (cmpI >= 0 || i == high) break;
             }
-            while (--j >= low) {
+            while (true) {
                 tracker.incComparison();
-                if (arr[j].compareTo(pivot) <= 0) break;
+                cmpJ = Double.compare(arr[--j], pivot);
+                if (cmpJ <= 0 || j == low) break;
             }
+
+            if (i == j && cmpI == 0) PartitionUtil.swap(arr, ++p, i);
             if (i >= j) break;
+
             PartitionUtil.swap(arr, i, j);
+            if (cmpJ == 0) PartitionUtil.swap(arr, ++p, i); // arr[i] now holds the old arr[j]
+            if (cmpI == 0) PartitionUtil.swap(arr, --q, j);
         }
 
-        PartitionUtil.swap(arr, low, j);
-        return j;
+        // swap the parked equal keys into the middle
+        i = j + 1;
+        for (int k = low; k <= p; k++) PartitionUtil.swap(arr, k, j--);
+        for (int k = high; k >= q; k--) PartitionUtil.swap(arr, k, i++);
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
     }
 
     /**
      * Insertion sort for small subarrays.
      */
-    private static <T extends Comparable<T>> void insertionSort(
+    static <T extends Comparable<T>> void insertionSort(
             T[] arr, int low, int high, MetricsTracker tracker) {
 
         for (int i = low + 1; i <= high; i++) {
@@ -103,4 +338,46 @@ public class QuickSort {
             arr[j + 1] = key;
         }
     }
+
+    static void insertionSort(int[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    static void insertionSort(long[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(double[] arr, int low, int high, MetricsTracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(arr[j], key) > 0) {
+                tracker.incComparison();
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            if (j >= low) tracker.incComparison(); // last failed comparison
+            arr[j + 1] = key;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,331 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+
+import java.util.Arrays;
+
+/**
+ * Radix sorts for primitive keys (no comparisons).
+ * Features:
+ *  - LSD: 11-bit digits (3 passes for int, 6 for long), one histogram read pass,
+ *    ping-pong scatter through one n-sized buffer, constant-digit passes skipped
+ *  - MSD American flag: 8-bit digits, in-place cycle-leader permutation, small buckets
+ *    finished with insertion sort; no n-sized buffer, so preferred for very large arrays
+ *  - Signed ints/longs: sign bit flipped in the key; doubles: IEEE bits mapped to an
+ *    unsigned key with {@link Double#compare} order (-0.0 before 0.0, NaN last)
+ *  - Distribution passes and bytes moved reported via MetricsTracker
+ */
+public class RadixSort {
+
+    public static final int IN_PLACE_THRESHOLD = 1 << 22; // sort() switches to American flag at this size
+    private static final int LSD_BITS = 11;
+    private static final int LSD_RADIX = 1 << LSD_BITS;
+    private static final int LSD_MASK = LSD_RADIX - 1;
+    private static final int MSD_BITS = 8;
+    private static final int MSD_RADIX = 1 << MSD_BITS;
+    private static final int MSD_MASK = MSD_RADIX - 1;
+    private static final int INSERTION_CUTOFF = 32;
+
+    /**
+     * Sorts ints: LSD below {@link #IN_PLACE_THRESHOLD}, American flag at or above it.
+     */
+    public static void sort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+        if (arr.length >= IN_PLACE_THRESHOLD) msdSort(arr, tracker);
+        else lsdSort(arr, tracker);
+    }
+
+    /**
+     * Sorts longs: LSD below {@link #IN_PLACE_THRESHOLD}, American flag at or above it.
+     */
+    public static void sort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+        if (arr.length >= IN_PLACE_THRESHOLD) msdSort(arr, tracker);
+        else lsdSort(arr, tracker);
+    }
+
+    /**
+     * Sorts doubles in {@link Double#compare} order via LSD on transformed 64-bit keys.
+     * NaN payloads are canonicalized.
+     */
+    public static void sort(double[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        long[] keys = new long[arr.length];
+        tracker.incAllocation();
+        for (int i = 0; i < arr.length; i++) {
+            long bits = Double.doubleToLongBits(arr[i]);
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE); // negatives: flip all bits, else the sign bit
+        }
+        lsd(keys, 0L, tracker);
+        for (int i = 0; i < arr.length; i++) {
+            long key = keys[i];
+            arr[i] = Double.longBitsToDouble(key ^ ((~key >> 63) | Long.MIN_VALUE));
+        }
+        tracker.stop();
+    }
+
+    /**
+     * LSD radix sort for ints (uses an n-sized buffer).
+     */
+    public static void lsdSort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        lsd(arr, Integer.MIN_VALUE, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * LSD radix sort for longs (uses an n-sized buffer).
+     */
+    public static void lsdSort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        lsd(arr, Long.MIN_VALUE, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * In-place MSD (American flag) radix sort for ints.
+     */
+    public static void msdSort(int[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        int levels = Integer.SIZE / MSD_BITS;
+        int[][] starts = new int[levels][MSD_RADIX + 1];
+        int[][] next = new int[levels][MSD_RADIX];
+        tracker.incAllocation();
+        americanFlag(arr, 0, arr.length, Integer.SIZE - MSD_BITS, starts, next, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * In-place MSD (American flag) radix sort for longs.
+     */
+    public static void msdSort(long[] arr, MetricsTracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+
+        tracker.start();
+        int levels = Long.SIZE / MSD_BITS;
+        int[][] starts = new int[levels][MSD_RADIX + 1];
+        int[][] next = new int[levels][MSD_RADIX];
+        tracker.incAllocation();
+        americanFlag(arr, 0, arr.length, Long.SIZE - MSD_BITS, starts, next, tracker);
+        tracker.stop();
+    }
+
+    /**
+     * LSD radix sort of arr on the key (v ^ flip), read as unsigned: 11-bit digits,
+     * all digit histograms built in one read pass, ping-pong scatter into one buffer.
+     * Passes whose digit is the same for every key are skipped.
+     */
+    private static void lsd(int[] arr, int flip, MetricsTracker tracker) {
+        int n = arr.length;
+        int passes = (Integer.SIZE + LSD_BITS - 1) / LSD_BITS;
+        int[][] counts = new int[passes][LSD_RADIX];
+        tracker.incAllocation();
+        for (int v : arr) {
+            int key = v ^ flip;
+            for (int p = 0; p < passes; p++) counts[p][digit(key, p * LSD_BITS, LSD_MASK)]++;
+        }
+
+        int[] src = arr;
+        int[] dst = new int[n];
+        tracker.incAllocation();
+        for (int p = 0; p < passes; p++) {
+            int shift = p * LSD_BITS;
+            int[] count = counts[p];
+            if (count[digit(src[0] ^ flip, shift, LSD_MASK)] == n) continue;
+
+            int sum = 0;
+            for (int d = 0; d < LSD_RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[count[digit(v ^ flip, shift, LSD_MASK)]++] = v;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            tracker.incPass();
+            tracker.addBytesMoved((long) n * Integer.BYTES);
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+            tracker.addBytesMoved((long) n * Integer.BYTES);
+        }
+    }
+
+    /**
+     * American flag sort of arr[from..to-1] on the 8-bit digit at shift, then each bucket on the next digit.
+     * Histogram and bucket cursors come from per-level scratch arrays, so recursion does not allocate.
+     */
+    private static void americanFlag(int[] arr, int from, int to, int shift, int[][] starts, int[][] next,
+                                     MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (to - from <= INSERTION_CUTOFF) {
+                QuickSort.insertionSort(arr, from, to - 1, tracker);
+                return;
+            }
+
+            int level = (Integer.SIZE - MSD_BITS - shift) / MSD_BITS;
+            int[] start = starts[level];
+            int[] cursor = next[level];
+            Arrays.fill(start, 0);
+            for (int i = from; i < to; i++) start[digit(arr[i] ^ Integer.MIN_VALUE, shift, MSD_MASK) + 1]++;
+
+            int only = digit(arr[from] ^ Integer.MIN_VALUE, shift, MSD_MASK);
+            if (start[only + 1] != to - from) {
+                start[0] = from;
+                for (int d = 0; d < MSD_RADIX; d++) start[d + 1] += start[d];
+                System.arraycopy(start, 0, cursor, 0, MSD_RADIX);
+
+                // cycle leader permutation: drop each element straight into its bucket
+                long moved = 0;
+                for (int d = 0; d < MSD_RADIX; d++) {
+                    while (cursor[d] < start[d + 1]) {
+                        int v = arr[cursor[d]];
+                        int dv = digit(v ^ Integer.MIN_VALUE, shift, MSD_MASK);
+                        while (dv != d) {
+                            int displaced = arr[cursor[dv]];
+                            arr[cursor[dv]++] = v;
+                            v = displaced;
+                            dv = digit(v ^ Integer.MIN_VALUE, shift, MSD_MASK);
+                            moved++;
+                        }
+                        arr[cursor[d]++] = v;
+                        moved++;
+                    }
+                }
+                tracker.incPass();
+                tracker.addBytesMoved(moved * Integer.BYTES);
+
+                if (shift == 0) return;
+                for (int d = 0; d < MSD_RADIX; d++) {
+                    if (start[d + 1] - start[d] > 1) {
+                        americanFlag(arr, start[d], start[d + 1], shift - MSD_BITS, starts, next, tracker);
+                    }
+                }
+            } else if (shift > 0) {
+                // every key shares this digit: go straight to the next one
+                americanFlag(arr, from, to, shift - MSD_BITS, starts, next, tracker);
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static void lsd(long[] arr, long flip, MetricsTracker tracker) {
+        int n = arr.length;
+        int passes = (Long.SIZE + LSD_BITS - 1) / LSD_BITS;
+        int[][] counts = new int[passes][LSD_RADIX];
+        tracker.incAllocation();
+        for (long v : arr) {
+            long key = v ^ flip;
+            for (int p = 0; p < passes; p++) counts[p][digit(key, p * LSD_BITS, LSD_MASK)]++;
+        }
+
+        long[] src = arr;
+        long[] dst = new long[n];
+        tracker.incAllocation();
+        for (int p = 0; p < passes; p++) {
+            int shift = p * LSD_BITS;
+            int[] count = counts[p];
+            if (count[digit(src[0] ^ flip, shift, LSD_MASK)] == n) continue;
+
+            int sum = 0;
+            for (int d = 0; d < LSD_RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                long v = src[i];
+                dst[count[digit(v ^ flip, shift, LSD_MASK)]++] = v;
+            }
+
+            long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            tracker.incPass();
+            tracker.addBytesMoved((long) n * Long.BYTES);
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+            tracker.addBytesMoved((long) n * Long.BYTES);
+        }
+    }
+
+    private static void americanFlag(long[] arr, int from, int to, int shift, int[][] starts, int[][] next,
+                                     MetricsTracker tracker) {
+        tracker.enterRecursion();
+        try {
+            if (to - from <= INSERTION_CUTOFF) {
+                QuickSort.insertionSort(arr, from, to - 1, tracker);
+                return;
+            }
+
+            int level = (Long.SIZE - MSD_BITS - shift) / MSD_BITS;
+            int[] start = starts[level];
+            int[] cursor = next[level];
+            Arrays.fill(start, 0);
+            for (int i = from; i < to; i++) start[digit(arr[i] ^ Long.MIN_VALUE, shift, MSD_MASK) + 1]++;
+
+            int only = digit(arr[from] ^ Long.MIN_VALUE, shift, MSD_MASK);
+            if (start[only + 1] != to - from) {
+                start[0] = from;
+                for (int d = 0; d < MSD_RADIX; d++) start[d + 1] += start[d];
+                System.arraycopy(start, 0, cursor, 0, MSD_RADIX);
+
+                // cycle leader permutation: drop each element straight into its bucket
+                long moved = 0;
+                for (int d = 0; d < MSD_RADIX; d++) {
+                    while (cursor[d] < start[d + 1]) {
+                        long v = arr[cursor[d]];
+                        int dv = digit(v ^ Long.MIN_VALUE, shift, MSD_MASK);
+                        while (dv != d) {
+                            long displaced = arr[cursor[dv]];
+                            arr[cursor[dv]++] = v;
+                            v = displaced;
+                            dv = digit(v ^ Long.MIN_VALUE, shift, MSD_MASK);
+                            moved++;
+                        }
+                        arr[cursor[d]++] = v;
+                        moved++;
+                    }
+                }
+                tracker.incPass();
+                tracker.addBytesMoved(moved * Long.BYTES);
+
+                if (shift == 0) return;
+                for (int d = 0; d < MSD_RADIX; d++) {
+                    if (start[d + 1] - start[d] > 1) {
+                        americanFlag(arr, start[d], start[d + 1], shift - MSD_BITS, starts, next, tracker);
+                    }
+                }
+            } else if (shift > 0) {
+                // every key shares this digit: go straight to the next one
+                americanFlag(arr, from, to, shift - MSD_BITS, starts, next, tracker);
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private static int digit(int key, int shift, int mask) {
+        return (key >>> shift) & mask;
+    }
+
+    private static int digit(long key, int shift, int mask) {
+        return (int) (key >>> shift) & mask;
+    }
+}
@@ -0,0 +1,165 @@
+package org.Util;
+
+/**
+ * Branchless block partitioning kernel for primitive arrays (BlockQuicksort-style).
+ * Comparison results are buffered as offset blocks, so the scan loops have no
+ * data-dependent branches; the swaps are then done in bulk.
+ * Shared by the sort ({@code BlockQuickSort}) and select ({@code DeterministicSelect}) paths.
+ */
+public class BlockPartition {
+
+    private static final int BLOCK = 128; // elements scanned per block
+
+    // per-thread offset buffers: [0, BLOCK) left block, [BLOCK, 2*BLOCK) right block
+    private static final ThreadLocal<int[]> OFFSETS = ThreadLocal.withInitial(() -> new int[2 * BLOCK]);
+
+    /**
+     * Partitions arr[low..high] by value: returns m with arr[low..m-1] < pivot and arr[m..high] >= pivot.
+     * Blocks of BLOCK elements are scanned from both ends; each scan records the offsets of
+     * misplaced elements without branching on the comparison, then the swaps are done in bulk.
+     */
+    public static int partitionLess(int[] arr, int low, int high, int pivot, MetricsTracker tracker) {
+        int[] offsets = OFFSETS.get();
+        int l = low, r = high;              // unscanned (or partially swapped) window is [l..r]
+        int numL = 0, numR = 0, startL = 0, startR = 0;
+
+        while (r - l + 1 > 2 * BLOCK) {
+            if (numL == 0) {
+                startL = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsets[numL] = i;
+                    numL += (arr[l + i] >= pivot) ? 1 : 0;
+                }
+                tracker.addComparisons(BLOCK);
+            }
+            if (numR == 0) {
+                startR = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsets[BLOCK + numR] = i;
+                    numR += (arr[r - i] < pivot) ? 1 : 0;
+                }
+                tracker.addComparisons(BLOCK);
+            }
+
+            int num = Math.min(numL, numR);
+            for (int k = 0; k < num; k++) {
+                int a = l + offsets[startL + k];
+                int b = r - offsets[BLOCK + startR + k];
+                int tmp = arr[a];
+                arr[a] = arr[b];
+                arr[b] = tmp;
+            }
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) l += BLOCK;
+            if (numR == 0) r -= BLOCK;
+        }
+
+        // finish the last (at most 2 * BLOCK + pending) elements with a plain Hoare scan
+        int i = l, j = r;
+        while (true) {
+            while (i <= j && lessCounted(arr[i], pivot, tracker)) i++;
+            while (i <= j && !lessCounted(arr[j], pivot, tracker)) j--;
+            if (i >= j) break;
+            int tmp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = tmp;
+        }
+        return i;
+    }
+
+    /**
+     * Partitions arr[low..high] by value: returns m with arr[low..m-1] <= pivot and arr[m..high] > pivot.
+     */
+    public static int partitionLessEqual(int[] arr, int low, int high, int pivot, MetricsTracker tracker) {
+        if (pivot == Integer.MAX_VALUE) return high + 1;
+        return partitionLess(arr, low, high, pivot + 1, tracker);
+    }
+
+    /**
+     * Three-way partition by value: returns (lt << 32) | gt with arr[low..lt-1] < pivot,
+     * arr[lt..gt] == pivot and arr[gt+1..high] > pivot (gt = lt - 1 if pivot is absent).
+     */
+    public static long threeWayPartition(int[] arr, int low, int high, int pivot, MetricsTracker tracker) {
+        int lt = partitionLess(arr, low, high, pivot, tracker);
+        int gt = partitionLessEqual(arr, lt, high, pivot, tracker) - 1;
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    private static boolean lessCounted(int a, int b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a < b;
+    }
+
+    // --- long[] specialization ---
+
+    public static int partitionLess(long[] arr, int low, int high, long pivot, MetricsTracker tracker) {
+        int[] offsets = OFFSETS.get();
+        int l = low, r = high;              // unscanned (or partially swapped) window is [l..r]
+        int numL = 0, numR = 0, startL = 0, startR = 0;
+
+        while (r - l + 1 > 2 * BLOCK) {
+            if (numL == 0) {
+                startL = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsets[numL] = i;
+                    numL += (arr[l + i] >= pivot) ? 1 : 0;
+                }
+                tracker.addComparisons(BLOCK);
+            }
+            if (numR == 0) {
+                startR = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsets[BLOCK + numR] = i;
+                    numR += (arr[r - i] < pivot) ? 1 : 0;
+                }
+                tracker.addComparisons(BLOCK);
+            }
+
+            int num = Math.min(numL, numR);
+            for (int k = 0; k < num; k++) {
+                int a = l + offsets[startL + k];
+                int b = r - offsets[BLOCK + startR + k];
+                long tmp = arr[a];
+                arr[a] = arr[b];
+                arr[b] = tmp;
+            }
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) l += BLOCK;
+            if (numR == 0) r -= BLOCK;
+        }
+
+        // finish the last (at most 2 * BLOCK + pending) elements with a plain Hoare scan
+        int i = l, j = r;
+        while (true) {
+            while (i <= j && lessCounted(arr[i], pivot, tracker)) i++;
+            while (i <= j && !lessCounted(arr[j], pivot, tracker)) j--;
+            if (i >= j) break;
+            long tmp = arr[i];
+            arr[i++] = arr[j];
+            arr[j--] = tmp;
+        }
+        return i;
+    }
+
+    public static int partitionLessEqual(long[] arr, int low, int high, long pivot, MetricsTracker tracker) {
+        if (pivot == Long.MAX_VALUE) return high + 1;
+        return partitionLess(arr, low, high, pivot + 1, tracker);
+    }
+
+    public static long threeWayPartition(long[] arr, int low, int high, long pivot, MetricsTracker tracker) {
+        int lt = partitionLess(arr, low, high, pivot, tracker);
+        int gt = partitionLessEqual(arr, lt, high, pivot, tracker) - 1;
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    private static boolean lessCounted(long a, long b, MetricsTracker tracker) {
+        tracker.incComparison();
+        return a < b;
+    }
+}
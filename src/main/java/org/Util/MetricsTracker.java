@@ -7,12 +7,18 @@ import java.nio.file.Path;
 
 /**
  * Utility class for tracking algorithm performance metrics.
- * Tracks execution time, recursion depth, comparisons, and allocations.
+ * Tracks execution time, recursion depth, comparisons, allocations,
+ * sorted runs, passes, bytes spilled to disk (adaptive/external sorts)
+ * and bytes moved by distribution passes (radix sorts).
  * Results can be exported to CSV for later analysis.
  */
 public class MetricsTracker {
     private long comparisons;
     private long allocations;
+    private long runs;
+    private long passes;
+    private long spillBytes;
+    private long bytesMoved;
     private int currentDepth;
     private int maxDepth;
     private long startTime;
@@ -36,10 +42,30 @@ public class MetricsTracker {
         comparisons++;
     }
 
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+
     public void incAllocation() {
         allocations++;
     }
 
+    public void incRun() {
+        runs++;
+    }
+
+    public void incPass() {
+        passes++;
+    }
+
+    public void addSpillBytes(long bytes) {
+        spillBytes += bytes;
+    }
+
+    public void addBytesMoved(long bytes) {
+        bytesMoved += bytes;
+    }
+
     public long getComparisons() {
         return comparisons;
     }
@@ -48,6 +74,22 @@ public class MetricsTracker {
         return allocations;
     }
 
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    public long getSpillBytes() {
+        return spillBytes;
+    }
+
+    public long getBytesMoved() {
+        return bytesMoved;
+    }
+
     // --- Recursion depth ---
     public void enterRecursion() {
         if (++currentDepth > maxDepth) {
@@ -63,6 +105,21 @@ public class MetricsTracker {
         return maxDepth;
     }
 
+    // --- Aggregation ---
+    /**
+     * Folds the counters of a child tracker (e.g. one used by a fork/join subtask)
+     * into this one. The child's depth is stacked on top of this tracker's current depth.
+     */
+    public void mergeFrom(MetricsTracker child) {
+        comparisons += child.comparisons;
+        allocations += child.allocations;
+        runs += child.runs;
+        passes += child.passes;
+        spillBytes += child.spillBytes;
+        bytesMoved += child.bytesMoved;
+        maxDepth = Math.max(maxDepth, currentDepth + child.maxDepth);
+    }
+
     // --- CSV Export ---
     public void writeToCSV(String filePath, int n, String algorithm) throws IOException {
         boolean newFile = !Files.exists(Path.of(filePath));
@@ -79,6 +136,10 @@ public class MetricsTracker {
     public void reset() {
         comparisons = 0;
         allocations = 0;
+        runs = 0;
+        passes = 0;
+        spillBytes = 0;
+        bytesMoved = 0;
         currentDepth = 0;
         maxDepth = 0;
         startTime = 0;
@@ -26,6 +26,45 @@ public class PartitionUtil {
         arr[j] = tmp;
     }
 
+    /**
+     * Swaps two elements in a primitive int array.
+     */
+    public static void swap(int[] arr, int i, int j) {
+        checkNotNullOrEmpty(arr);
+        if (i < 0 || j < 0 || i >= arr.length || j >= arr.length) {
+            throw new ArrayOpException("Index out of bounds: i=" + i + ", j=" + j);
+        }
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * Swaps two elements in a primitive long array.
+     */
+    public static void swap(long[] arr, int i, int j) {
+        checkNotNullOrEmpty(arr);
+        if (i < 0 || j < 0 || i >= arr.length || j >= arr.length) {
+            throw new ArrayOpException("Index out of bounds: i=" + i + ", j=" + j);
+        }
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * Swaps two elements in a primitive double array.
+     */
+    public static void swap(double[] arr, int i, int j) {
+        checkNotNullOrEmpty(arr);
+        if (i < 0 || j < 0 || i >= arr.length || j >= arr.length) {
+            throw new ArrayOpException("Index out of bounds: i=" + i + ", j=" + j);
+        }
+        double tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
     /**
      * Shuffles the array randomly (Fisher–Yates algorithm).
      * @param arr The array to shuffle.
@@ -54,6 +93,42 @@ public class PartitionUtil {
         }
     }
 
+    /**
+     * Checks if a primitive int array is not null and not empty.
+     */
+    public static void checkNotNullOrEmpty(int[] arr) {
+        if (arr == null) {
+            throw new ArrayOpException("Array cannot be null");
+        }
+        if (arr.length == 0) {
+            throw new ArrayOpException("Array cannot be empty");
+        }
+    }
+
+    /**
+     * Checks if a primitive long array is not null and not empty.
+     */
+    public static void checkNotNullOrEmpty(long[] arr) {
+        if (arr == null) {
+            throw new ArrayOpException("Array cannot be null");
+        }
+        if (arr.length == 0) {
+            throw new ArrayOpException("Array cannot be empty");
+        }
+    }
+
+    /**
+     * Checks if a primitive double array is not null and not empty.
+     */
+    public static void checkNotNullOrEmpty(double[] arr) {
+        if (arr == null) {
+            throw new ArrayOpException("Array cannot be null");
+        }
+        if (arr.length == 0) {
+            throw new ArrayOpException("Array cannot be empty");
+        }
+    }
+
     /**
      * Custom exception for array-related errors.
      */
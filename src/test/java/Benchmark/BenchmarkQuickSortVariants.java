@@ -0,0 +1,65 @@
+package Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import Sorting.BlockQuickSort;
+import Sorting.DualPivotQuickSort;
+import Sorting.QuickSort;
+import org.Util.MetricsTracker;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Branch behaviour of the block kernel: run with -prof perfnorm (branch-misses per op) or -prof perfasm.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class BenchmarkQuickSortVariants {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"random", "lowCardinality"})
+    private String distribution;
+
+    private int[] arr;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        Random rand = new Random();
+        arr = distribution.equals("lowCardinality")
+                ? rand.ints(size, 0, 16).toArray() // e.g. status codes / bucket IDs
+                : rand.ints(size).toArray();
+    }
+
+    @Benchmark
+    public void benchmarkQuickSort(Blackhole blackhole) {
+        int[] copy = arr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        QuickSort.sort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void benchmarkDualPivotQuickSort(Blackhole blackhole) {
+        int[] copy = arr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        DualPivotQuickSort.sort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void benchmarkBlockQuickSort(Blackhole blackhole) {
+        int[] copy = arr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        BlockQuickSort.sort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
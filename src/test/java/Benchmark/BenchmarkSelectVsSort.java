@@ -3,8 +3,10 @@ package Benchmark;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 import Select.DeterministicSelect;
+import Select.IntroSelect;
 import Sorting.MergeSort;
 import Sorting.QuickSort;
+import Sorting.RadixSort;
 import org.Util.MetricsTracker;
 
 import java.util.Random;
@@ -22,6 +24,7 @@ public class BenchmarkSelectVsSort {
     private int size;
 
     private Integer[] arr;
+    private int[] primitiveArr;
 
     @Setup(Level.Iteration)
     public void setup() {
@@ -30,6 +33,10 @@ public class BenchmarkSelectVsSort {
         for (int i = 0; i < size; i++) {
             arr[i] = rand.nextInt(10000);
         }
+        primitiveArr = new int[size];
+        for (int i = 0; i < size; i++) {
+            primitiveArr[i] = arr[i];
+        }
     }
 
     @Benchmark
@@ -40,6 +47,14 @@ public class BenchmarkSelectVsSort {
         blackhole.consume(result);
     }
 
+    @Benchmark
+    public void benchmarkIntroSelect(Blackhole blackhole) {
+        Integer[] copy = arr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        Integer result = IntroSelect.select(copy, size / 2, tracker); // median
+        blackhole.consume(result);
+    }
+
     @Benchmark
     public void benchmarkMergeSort(Blackhole blackhole) {
         Integer[] copy = arr.clone();
@@ -56,6 +71,54 @@ public class BenchmarkSelectVsSort {
         blackhole.consume(copy);
     }
 
+    @Benchmark
+    public void benchmarkDeterministicSelectPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        int result = DeterministicSelect.select(copy, size / 2, tracker); // median
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void benchmarkIntroSelectPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        int result = IntroSelect.select(copy, size / 2, tracker); // median
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void benchmarkMergeSortPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        MergeSort.sort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void benchmarkQuickSortPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        QuickSort.sort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void benchmarkRadixSortLsdPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        RadixSort.lsdSort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
+    @Benchmark
+    public void benchmarkRadixSortMsdPrimitive(Blackhole blackhole) {
+        int[] copy = primitiveArr.clone();
+        MetricsTracker tracker = new MetricsTracker();
+        RadixSort.msdSort(copy, tracker);
+        blackhole.consume(copy);
+    }
+
     public static void main(String[] args) throws Exception {
         org.openjdk.jmh.Main.main(args);
     }
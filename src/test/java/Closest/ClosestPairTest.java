@@ -75,6 +75,29 @@ class ClosestPairTest {
         assertTrue(result >= 0);
     }
 
+    @Test
+    void testMatchesBruteForceWithConstantAllocations() {
+        Random rand = new Random();
+        for (int size : new int[]{4, 17, 1000, 3000}) {
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new ClosestPair.Point(rand.nextDouble() * 100, rand.nextDouble() * 100);
+            }
+            MetricsTracker t = new MetricsTracker();
+            assertEquals(bruteForceClosest(points), ClosestPair.findClosestPair(points, t), 1e-10);
+            assertEquals(2, t.getAllocations(), "x-sorted index array + shared scratch buffer");
+        }
+    }
+
+    @Test
+    void testSameXColumn() {
+        ClosestPair.Point[] points = new ClosestPair.Point[200];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(5, (i * 7919) % 1000); // shuffled y on one vertical line
+        }
+        assertEquals(bruteForceClosest(points), ClosestPair.findClosestPair(points, tracker), 1e-10);
+    }
+
     @Test
     void testWithDuplicates() {
         ClosestPair.Point[] points = {
@@ -98,6 +121,91 @@ class ClosestPairTest {
         assertEquals(0.0, result, 1e-10);
     }
 
+    @Test
+    void testStructureOfArraysMatchesPoints() {
+        Random rand = new Random();
+        for (int size : new int[]{2, 3, 17, 1000, 5000}) {
+            double[] xs = new double[size], ys = new double[size];
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                xs[i] = rand.nextInt(2000) / 10.0; // coarse grid: ties and duplicates
+                ys[i] = rand.nextInt(2000) / 10.0;
+                points[i] = new ClosestPair.Point(xs[i], ys[i]);
+            }
+            double[] xsCopy = xs.clone(), ysCopy = ys.clone();
+            MetricsTracker t = new MetricsTracker();
+            assertEquals(bruteForceClosest(points), ClosestPair.findClosestPair(xs, ys, t), 1e-10);
+            assertEquals(6, t.getAllocations(), "coordinate and index copies + their scratch arrays");
+            assertArrayEquals(xsCopy, xs, "input must not be modified");
+            assertArrayEquals(ysCopy, ys, "input must not be modified");
+        }
+    }
+
+    @Test
+    void testStructureOfArraysSameXColumn() {
+        double[] xs = new double[200], ys = new double[200];
+        ClosestPair.Point[] points = new ClosestPair.Point[200];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = 5;
+            ys[i] = (i * 7919) % 1000;
+            points[i] = new ClosestPair.Point(xs[i], ys[i]);
+        }
+        assertEquals(bruteForceClosest(points), ClosestPair.findClosestPair(xs, ys, tracker), 1e-10);
+    }
+
+    @Test
+    void testStructureOfArraysInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ClosestPair.findClosestPair(new double[]{1}, new double[]{1}, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClosestPair.findClosestPair(new double[]{1, 2}, new double[]{1}, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClosestPair.findClosestPair(null, new double[]{1, 2}, tracker));
+    }
+
+    @Test
+    void testFindPairReportsIndices() {
+        Random rand = new Random();
+        for (int size : new int[]{2, 3, 50, 4000}) {
+            double[] xs = new double[size], ys = new double[size];
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                xs[i] = rand.nextDouble() * 100;
+                ys[i] = rand.nextDouble() * 100;
+                points[i] = new ClosestPair.Point(xs[i], ys[i]);
+            }
+            double expected = bruteForceClosest(points);
+
+            ClosestPair.Pair pair = ClosestPair.findPair(points, tracker);
+            assertPairRealises(points, pair, expected);
+            ClosestPair.Pair soa = ClosestPair.findPair(xs, ys, tracker);
+            assertPairRealises(points, soa, expected);
+        }
+    }
+
+    @Test
+    void testFindPairPlantedDuplicate() {
+        Random rand = new Random();
+        ClosestPair.Point[] points = new ClosestPair.Point[1000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(i * 10 + rand.nextDouble(), rand.nextDouble() * 10_000);
+        }
+        points[713] = new ClosestPair.Point(points[42].x, points[42].y);
+
+        ClosestPair.Pair pair = ClosestPair.findPair(points, tracker);
+        assertEquals(42, pair.first);
+        assertEquals(713, pair.second);
+        assertEquals(0.0, pair.distance);
+    }
+
+    static void assertPairRealises(ClosestPair.Point[] points, ClosestPair.Pair pair, double expected) {
+        assertTrue(0 <= pair.first && pair.first < pair.second && pair.second < points.length, pair.toString());
+        double dx = points[pair.first].x - points[pair.second].x;
+        double dy = points[pair.first].y - points[pair.second].y;
+        assertEquals(expected, pair.distance, 1e-10);
+        assertEquals(pair.distance, Math.sqrt(dx * dx + dy * dy), 1e-10);
+    }
+
     private double bruteForceClosest(ClosestPair.Point[] points) {
         double minDistance = Double.POSITIVE_INFINITY;
         for (int i = 0; i < points.length; i++) {
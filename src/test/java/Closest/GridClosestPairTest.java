@@ -0,0 +1,85 @@
+package Closest;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridClosestPairTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testMatchesDivideAndConquer() {
+        Random rand = new Random();
+        for (int size : new int[]{2, 3, 10, 1000, 50_000}) {
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new ClosestPair.Point(rand.nextDouble() * 1000, rand.nextDouble() * 1000);
+            }
+            double expected = ClosestPair.findClosestPair(points, new MetricsTracker());
+            assertEquals(expected, GridClosestPair.findClosestPair(points, new MetricsTracker()), 1e-12, "n " + size);
+        }
+    }
+
+    @Test
+    void testClusteredAndCollinearPoints() {
+        Random rand = new Random();
+        ClosestPair.Point[] points = new ClosestPair.Point[20_000];
+        for (int i = 0; i < points.length; i++) {
+            double cx = (i % 5) * 1e6;
+            points[i] = i % 2 == 0
+                    ? new ClosestPair.Point(cx + rand.nextGaussian(), rand.nextGaussian())
+                    : new ClosestPair.Point(-5e6, i * 0.37); // vertical line
+        }
+        double expected = ClosestPair.findClosestPair(points, new MetricsTracker());
+        assertEquals(expected, GridClosestPair.findClosestPair(points, tracker), 1e-12);
+    }
+
+    @Test
+    void testRebuildsAndProbesStaySmall() {
+        Random rand = new Random();
+        int n = 200_000;
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) points[i] = new ClosestPair.Point(rand.nextDouble(), rand.nextDouble());
+
+        GridClosestPair.findClosestPair(points, tracker);
+        assertTrue(tracker.getPasses() < 100, "Rebuilds: " + tracker.getPasses()); // expected ~2 ln n
+        assertTrue(tracker.getComparisons() < 40L * n, "Probes: " + tracker.getComparisons());
+        assertEquals(2, tracker.getAllocations());
+    }
+
+    @Test
+    void testFindPairMatchesDivideAndConquer() {
+        Random rand = new Random();
+        for (int size : new int[]{2, 3, 100, 20_000}) {
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new ClosestPair.Point(rand.nextDouble() * 1000, rand.nextDouble() * 1000);
+            }
+            ClosestPair.Pair expected = ClosestPair.findPair(points, new MetricsTracker());
+            ClosestPair.Pair pair = GridClosestPair.findPair(points, tracker);
+            ClosestPairTest.assertPairRealises(points, pair, expected.distance);
+        }
+    }
+
+    @Test
+    void testDuplicatesAndInvalidInput() {
+        ClosestPair.Point[] points = {
+                new ClosestPair.Point(1, 1),
+                new ClosestPair.Point(5, 5),
+                new ClosestPair.Point(1, 1)
+        };
+        assertEquals(0.0, GridClosestPair.findClosestPair(points, tracker), 1e-10);
+        assertThrows(IllegalArgumentException.class,
+                () -> GridClosestPair.findClosestPair(new ClosestPair.Point[]{new ClosestPair.Point(1, 1)}, tracker));
+    }
+}
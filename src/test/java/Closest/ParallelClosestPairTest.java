@@ -0,0 +1,76 @@
+package Closest;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelClosestPairTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSameDistanceAsSequential() {
+        Random rand = new Random();
+        for (int size : new int[]{2, 3, 100, 5000, 200_000}) {
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new ClosestPair.Point(rand.nextDouble() * 1000, rand.nextDouble() * 1000);
+            }
+            double expected = ClosestPair.findClosestPair(points, new MetricsTracker());
+            assertEquals(expected, ParallelClosestPair.findClosestPair(points, 64, new MetricsTracker()), 0.0, "n " + size);
+            assertEquals(expected, ParallelClosestPair.findClosestPair(points, new MetricsTracker()), 0.0, "n " + size);
+        }
+    }
+
+    @Test
+    void testFindPairRealisesDistance() {
+        Random rand = new Random();
+        ClosestPair.Point[] points = new ClosestPair.Point[50_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(rand.nextInt(100_000), rand.nextInt(100_000)); // integer grid: ties
+        }
+        ClosestPair.Pair expected = ClosestPair.findPair(points, new MetricsTracker());
+        ClosestPair.Pair pair = ParallelClosestPair.findPair(points, 32, tracker);
+        ClosestPairTest.assertPairRealises(points, pair, expected.distance);
+        assertEquals(2, tracker.getAllocations(), "x-sorted index array + shared scratch buffer");
+        assertTrue(tracker.getComparisons() > 0);
+    }
+
+    @Test
+    void testClusteredAndDuplicatePoints() {
+        Random rand = new Random();
+        ClosestPair.Point[] points = new ClosestPair.Point[30_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = i % 3 == 0
+                    ? new ClosestPair.Point(7, i * 0.5) // vertical line across every split
+                    : new ClosestPair.Point((i % 4) * 1e5 + rand.nextGaussian(), rand.nextGaussian());
+        }
+        double expected = ClosestPair.findClosestPair(points, new MetricsTracker());
+        assertEquals(expected, ParallelClosestPair.findClosestPair(points, 16, tracker), 0.0);
+
+        points[20_001] = new ClosestPair.Point(points[17].x, points[17].y);
+        ClosestPair.Pair pair = ParallelClosestPair.findPair(points, 16, new MetricsTracker());
+        assertEquals(0.0, pair.distance);
+        ClosestPairTest.assertPairRealises(points, pair, 0.0);
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelClosestPair.findClosestPair(new ClosestPair.Point[]{new ClosestPair.Point(1, 1)}, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelClosestPair.findClosestPair(null, tracker));
+        ClosestPair.Point[] two = {new ClosestPair.Point(0, 0), new ClosestPair.Point(3, 4)};
+        assertThrows(IllegalArgumentException.class, () -> ParallelClosestPair.findClosestPair(two, 0, tracker));
+        assertEquals(5.0, ParallelClosestPair.findClosestPair(two, 1, tracker), 1e-12);
+    }
+}
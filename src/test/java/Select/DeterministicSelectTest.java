@@ -0,0 +1,131 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeterministicSelectTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSelectMatchesSortedOrder() {
+        Integer[] arr = generateRandomArray(500);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 250, 498, 499}) {
+            assertEquals(sorted[k], DeterministicSelect.select(arr.clone(), k, new MetricsTracker()));
+        }
+    }
+
+    @Test
+    void testSelectPrimitiveInt() {
+        int[] arr = new Random().ints(1000, 0, 50).toArray();
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < arr.length; k += 37) {
+            assertEquals(sorted[k], DeterministicSelect.select(arr.clone(), k, tracker));
+        }
+    }
+
+    @Test
+    void testSelectPrimitiveLongAndDouble() {
+        long[] longs = new Random().longs(777).toArray();
+        long[] sortedLongs = longs.clone();
+        Arrays.sort(sortedLongs);
+        assertEquals(sortedLongs[388], DeterministicSelect.select(longs, 388, tracker));
+
+        double[] doubles = new Random().doubles(777).toArray();
+        double[] sortedDoubles = doubles.clone();
+        Arrays.sort(sortedDoubles);
+        assertEquals(sortedDoubles[100], DeterministicSelect.select(doubles, 100, tracker));
+    }
+
+    @Test
+    void testSelectDoesNotAllocate() {
+        Random rand = new Random();
+        Integer[] boxed = generateRandomArray(10_000);
+        int[] ints = rand.ints(10_000).toArray();
+        long[] longs = rand.longs(10_000, 0, 100).toArray();
+        double[] doubles = rand.doubles(10_000).toArray();
+
+        Integer[] sorted = boxed.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[5000], DeterministicSelect.select(boxed, 5000, tracker));
+        int[] sortedInts = ints.clone();
+        Arrays.sort(sortedInts);
+        assertEquals(sortedInts[1234], DeterministicSelect.select(ints, 1234, tracker));
+        long[] sortedLongs = longs.clone();
+        Arrays.sort(sortedLongs);
+        assertEquals(sortedLongs[9999], DeterministicSelect.select(longs, 9999, tracker));
+        double[] sortedDoubles = doubles.clone();
+        Arrays.sort(sortedDoubles);
+        assertEquals(sortedDoubles[0], DeterministicSelect.select(doubles, 0, tracker));
+
+        assertEquals(0, tracker.getAllocations());
+    }
+
+    @Test
+    void testSelectManyMatchesSortedOrder() {
+        Integer[] arr = generateRandomArray(10_000);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        int[] ranks = {9999, 5000, 0, 9000, 9900, 5000, 9990};
+
+        Integer[] result = DeterministicSelect.selectMany(arr, ranks, tracker);
+        assertEquals(ranks.length, result.length);
+        for (int i = 0; i < ranks.length; i++) {
+            assertEquals(sorted[ranks[i]], result[i], "rank " + ranks[i]);
+        }
+    }
+
+    @Test
+    void testSelectManyCostCloseToSingleSelect() {
+        int[] arr = new Random().ints(100_000).toArray();
+        int n = arr.length;
+        int[] ranks = {n / 2, n * 9 / 10, n * 99 / 100, n * 999 / 1000};
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        MetricsTracker single = new MetricsTracker();
+        DeterministicSelect.select(arr.clone(), n / 2, single);
+
+        int[] result = DeterministicSelect.selectMany(arr, ranks, tracker);
+        for (int i = 0; i < ranks.length; i++) assertEquals(sorted[ranks[i]], result[i]);
+        assertTrue(tracker.getComparisons() < 2 * single.getComparisons(),
+                tracker.getComparisons() + " vs single " + single.getComparisons());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterministicSelect.select(new int[0], 0, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterministicSelect.select(new int[]{1, 2, 3}, 3, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterministicSelect.select(new Integer[]{1, 2, 3}, -1, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterministicSelect.selectMany(new int[]{1, 2, 3}, new int[]{0, 3}, tracker));
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
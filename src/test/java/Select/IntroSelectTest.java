@@ -0,0 +1,81 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntroSelectTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSelectMatchesSortedOrder() {
+        Integer[] arr = new Integer[5000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) arr[i] = rand.nextInt(1000);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 17, 2500, 4998, 4999}) {
+            assertEquals(sorted[k], IntroSelect.select(arr.clone(), k, new MetricsTracker()));
+        }
+    }
+
+    @Test
+    void testSelectPrimitivePatterns() {
+        int n = 20_000;
+        int[][] inputs = {
+                new Random().ints(n).toArray(),
+                new Random().ints(n, 0, 3).toArray(),
+                new int[n],
+                new int[n],
+                new int[n],
+                new int[n]
+        };
+        for (int i = 0; i < n; i++) {
+            inputs[3][i] = i;                                // sorted
+            inputs[4][i] = n - i;                            // reversed
+            inputs[5][i] = i < n / 2 ? i : n - i;            // organ pipe
+        }
+
+        for (int[] input : inputs) {
+            int[] sorted = input.clone();
+            Arrays.sort(sorted);
+            for (int k : new int[]{0, n / 3, n / 2, n - 1}) {
+                MetricsTracker t = new MetricsTracker();
+                assertEquals(sorted[k], IntroSelect.select(input.clone(), k, t));
+                assertTrue(t.getComparisons() <= 20L * n, "Comparisons: " + t.getComparisons());
+            }
+        }
+    }
+
+    @Test
+    void testFewerComparisonsThanMedianOfMedians() {
+        int[] arr = new Random().ints(200_000).toArray();
+        MetricsTracker mom = new MetricsTracker();
+        int expected = DeterministicSelect.select(arr.clone(), arr.length / 2, mom);
+
+        assertEquals(expected, IntroSelect.select(arr.clone(), arr.length / 2, tracker));
+        assertTrue(tracker.getComparisons() < mom.getComparisons(),
+                tracker.getComparisons() + " vs " + mom.getComparisons());
+        assertEquals(0, tracker.getAllocations());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> IntroSelect.select(new int[0], 0, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntroSelect.select(new Integer[]{1, 2, 3}, 3, tracker));
+    }
+}
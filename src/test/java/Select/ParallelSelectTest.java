@@ -0,0 +1,85 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSelectTest {
+
+    private static final int THRESHOLD = 1 << 12; // small chunks so the parallel path runs
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSelectPrimitiveMatchesSortedOrder() {
+        int[] arr = new Random().ints(1_000_000).toArray();
+        int[] original = arr.clone();
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 1000, 500_000, 999_000, 999_999}) {
+            MetricsTracker t = new MetricsTracker();
+            assertEquals(sorted[k], ParallelSelect.select(arr, k, THRESHOLD, t), "k " + k);
+            assertTrue(t.getPasses() <= 2, "Passes: " + t.getPasses());
+        }
+        assertArrayEquals(original, arr);
+    }
+
+    @Test
+    void testTwoParallelPassesAndSmallBand() {
+        int[] arr = new Random().ints(2_000_000).toArray();
+        int k = arr.length / 2;
+        int expected = DeterministicSelect.select(arr.clone(), k, new MetricsTracker());
+
+        assertEquals(expected, ParallelSelect.select(arr, k, THRESHOLD, tracker));
+        assertEquals(2, tracker.getPasses());
+        // two passes over the data plus a sequential select on a band much smaller than n
+        assertTrue(tracker.getComparisons() < 6L * arr.length, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testManyDuplicates() {
+        int[] arr = new Random().ints(300_000, 0, 4).toArray();
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < arr.length; k += 29_999) {
+            assertEquals(sorted[k], ParallelSelect.select(arr, k, THRESHOLD, tracker), "k " + k);
+        }
+    }
+
+    @Test
+    void testSelectBoxed() {
+        Integer[] arr = new Integer[200_000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) arr[i] = rand.nextInt(100_000);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 12_345, 100_000, 199_999}) {
+            assertEquals(sorted[k], ParallelSelect.select(arr, k, THRESHOLD, tracker), "k " + k);
+        }
+
+        Integer[] small = Arrays.copyOf(arr, 100); // below the threshold: sequential path
+        Integer[] sortedSmall = small.clone();
+        Arrays.sort(sortedSmall);
+        assertEquals(sortedSmall[7], ParallelSelect.select(small, 7, tracker));
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelSelect.select(new int[0], 0, tracker));
+        assertThrows(IllegalArgumentException.class, () -> ParallelSelect.select(new int[]{1, 2}, 2, tracker));
+        assertThrows(IllegalArgumentException.class, () -> ParallelSelect.select(new int[]{1, 2}, 0, 0, tracker));
+    }
+}
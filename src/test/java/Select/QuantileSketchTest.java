@@ -0,0 +1,136 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+    private static final double EPS = 0.025; // normalized rank tolerance for k = 200
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testQuantilesAgainstDeterministicSelect() {
+        double[] data = new Random().doubles(200_000).map(v -> -Math.log(v)).toArray(); // skewed, latency-like
+        QuantileSketch sketch = new QuantileSketch(tracker);
+        for (double v : data) sketch.update(v);
+
+        assertEquals(data.length, sketch.getN());
+        assertQuantilesClose(data, sketch);
+    }
+
+    @Test
+    void testPrimitiveBatchesWithDuplicates() {
+        int[] data = new Random().ints(100_000, 0, 100).toArray();
+        QuantileSketch sketch = new QuantileSketch(tracker);
+        sketch.update(Arrays.copyOfRange(data, 0, 50_000));
+        sketch.update(Arrays.copyOfRange(data, 50_000, data.length));
+
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            int rank = (int) (q * (data.length - 1));
+            int exact = DeterministicSelect.select(data.clone(), rank, new MetricsTracker());
+            int estimate = (int) sketch.getQuantile(q);
+            assertRankWithin(sorted, estimate, rank, "q " + q + " exact " + exact);
+        }
+    }
+
+    @Test
+    void testMergeAcrossThreads() throws Exception {
+        double[] data = new Random().doubles(400_000).toArray();
+        int parts = 8;
+        int chunk = data.length / parts;
+
+        List<Future<QuantileSketch>> futures = new ArrayList<>();
+        for (int p = 0; p < parts; p++) {
+            double[] slice = Arrays.copyOfRange(data, p * chunk, (p + 1) * chunk);
+            futures.add(ForkJoinPool.commonPool().submit(() -> {
+                QuantileSketch local = new QuantileSketch(new MetricsTracker());
+                local.update(slice);
+                return local;
+            }));
+        }
+
+        QuantileSketch merged = new QuantileSketch(tracker);
+        for (Future<QuantileSketch> future : futures) merged.merge(future.get());
+
+        assertEquals(data.length, merged.getN());
+        assertQuantilesClose(data, merged);
+    }
+
+    @Test
+    void testRankAndBoundedMemory() {
+        QuantileSketch sketch = new QuantileSketch(tracker);
+        for (int i = 0; i < 1_000_000; i++) sketch.update(i);
+
+        assertEquals(0.0, sketch.getMin());
+        assertEquals(999_999.0, sketch.getMax());
+        assertEquals(0.5, sketch.getRank(499_999), EPS);
+        assertEquals(0.9, sketch.getRank(899_999), EPS);
+        assertTrue(sketch.getRetainedItems() < 4 * QuantileSketch.DEFAULT_K, "Retained: " + sketch.getRetainedItems());
+        assertTrue(tracker.getPasses() > 0);
+    }
+
+    @Test
+    void testEmptyAndInvalid() {
+        QuantileSketch sketch = new QuantileSketch(tracker);
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getRank(1.0)));
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.update(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(sketch));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(2, tracker));
+    }
+
+    private void assertQuantilesClose(double[] data, QuantileSketch sketch) {
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            int rank = (int) (q * (data.length - 1));
+            double exact = DeterministicSelect.select(data.clone(), rank, new MetricsTracker());
+            double estimate = sketch.getQuantile(q);
+            int lo = lowerBound(sorted, estimate);
+            int hi = lowerBound(sorted, Math.nextUp(estimate)) - 1;
+            assertTrue(rank >= lo - EPS * data.length && rank <= hi + EPS * data.length,
+                    "q " + q + ": exact " + exact + ", estimate " + estimate + " at ranks [" + lo + ", " + hi + "]");
+        }
+    }
+
+    private void assertRankWithin(int[] sorted, int estimate, int rank, String message) {
+        int lo = lowerBound(sorted, estimate);
+        int hi = lowerBound(sorted, estimate + 1) - 1;
+        assertTrue(rank >= lo - EPS * sorted.length && rank <= hi + EPS * sorted.length, message);
+    }
+
+    private static int lowerBound(double[] sorted, double key) {
+        int i = Arrays.binarySearch(sorted, key);
+        if (i < 0) return -i - 1;
+        while (i > 0 && sorted[i - 1] == key) i--;
+        return i;
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        int i = Arrays.binarySearch(sorted, key);
+        if (i < 0) return -i - 1;
+        while (i > 0 && sorted[i - 1] == key) i--;
+        return i;
+    }
+}
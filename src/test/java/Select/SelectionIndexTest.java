@@ -0,0 +1,85 @@
+package Select;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectionIndexTest {
+
+    @Test
+    void testQueriesMatchSortedOrder() {
+        Integer[] arr = generateRandomArray(50_000, 10_000);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        SelectionIndex<Integer> index = new SelectionIndex<>(arr);
+        Random rand = new Random();
+        for (int q = 0; q < 2000; q++) {
+            int k = rand.nextInt(arr.length);
+            assertEquals(sorted[k], index.select(k, new MetricsTracker()), "k " + k);
+        }
+        assertEquals(sorted[0], index.select(0, new MetricsTracker()));
+        assertEquals(sorted[arr.length - 1], index.select(arr.length - 1, new MetricsTracker()));
+    }
+
+    @Test
+    void testRepeatedQueriesGetCheaper() {
+        Integer[] arr = generateRandomArray(200_000, Integer.MAX_VALUE);
+        SelectionIndex<Integer> index = new SelectionIndex<>(arr);
+        Random rand = new Random();
+
+        MetricsTracker first = new MetricsTracker();
+        index.select(arr.length / 2, first);
+
+        MetricsTracker earlier = new MetricsTracker();
+        MetricsTracker later = new MetricsTracker();
+        int last = 0;
+        for (int q = 0; q < 200; q++) {
+            last = rand.nextInt(arr.length);
+            index.select(last, q < 100 ? earlier : later);
+        }
+        assertTrue(later.getComparisons() < earlier.getComparisons(),
+                later.getComparisons() + " vs earlier " + earlier.getComparisons());
+        // 200 cold selects would cost ~200x the first one
+        long total = earlier.getComparisons() + later.getComparisons();
+        assertTrue(total < 20 * first.getComparisons(), total + " vs first " + first.getComparisons());
+
+        MetricsTracker repeat = new MetricsTracker();
+        index.select(last, repeat);
+        assertEquals(0, repeat.getComparisons(), "k is a remembered fence");
+    }
+
+    @Test
+    void testPivotMemoryBounded() {
+        Integer[] arr = generateRandomArray(20_000, 1000);
+        Integer[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        SelectionIndex<Integer> index = new SelectionIndex<>(arr, 16);
+        for (int k = 0; k < arr.length; k += 97) {
+            assertEquals(sorted[k], index.select(k, new MetricsTracker()));
+            assertTrue(index.getKnownPivots() <= 16);
+        }
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new SelectionIndex<>(new Integer[0]));
+        assertThrows(IllegalArgumentException.class, () -> new SelectionIndex<>(new Integer[]{1}, 1));
+        SelectionIndex<Integer> index = new SelectionIndex<>(new Integer[]{3, 1, 2});
+        assertThrows(IllegalArgumentException.class, () -> index.select(3, new MetricsTracker()));
+    }
+
+    private Integer[] generateRandomArray(int size, int bound) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(bound);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,95 @@
+package Select;
+
+import Sorting.QuickSort;
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testPartialSortPrimitive() {
+        Random rand = new Random();
+        for (int k : new int[]{0, 1, 2, 17, 100, 5000, 10_000}) {
+            int[] arr = rand.ints(10_000, 0, 500).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            TopK.partialSort(arr, k, tracker);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(arr, k), "k " + k);
+
+            int[] rest = Arrays.copyOfRange(arr, k, arr.length);
+            Arrays.sort(rest);
+            assertArrayEquals(Arrays.copyOfRange(expected, k, expected.length), rest);
+        }
+    }
+
+    @Test
+    void testTopKBoxedLeavesInputUntouched() {
+        Integer[] arr = new Integer[20_000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) arr[i] = rand.nextInt();
+        Integer[] original = arr.clone();
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Integer[] top = TopK.topK(arr, 100, tracker);
+        assertArrayEquals(Arrays.copyOf(expected, 100), top);
+        assertArrayEquals(original, arr);
+    }
+
+    @Test
+    void testCheaperThanFullSort() {
+        int[] arr = new Random().ints(200_000).toArray();
+        MetricsTracker full = new MetricsTracker();
+        QuickSort.sort(arr.clone(), full);
+
+        TopK.topK(arr, 100, tracker);
+        assertTrue(tracker.getComparisons() < full.getComparisons() / 2,
+                tracker.getComparisons() + " vs " + full.getComparisons());
+    }
+
+    @Test
+    void testStreamingIterator() {
+        int[] values = new Random().ints(50_000, -1000, 1000).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        List<Integer> top = TopK.topK(Arrays.stream(values).boxed().iterator(), 50, tracker);
+        assertEquals(50, top.size());
+        for (int i = 0; i < 50; i++) assertEquals(expected[i], top.get(i));
+        assertEquals(1, TopK.topK(List.of(3).iterator(), 5, tracker).size());
+    }
+
+    @Test
+    void testStreamingIntStream() {
+        int[] values = new Random().ints(50_000).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(Arrays.copyOf(expected, 64), TopK.topK(Arrays.stream(values), 64, tracker));
+        assertArrayEquals(new int[]{0, 1, 2}, TopK.topK(IntStream.range(0, 3).map(i -> 2 - i), 10, tracker));
+        assertArrayEquals(new int[0], TopK.topK(IntStream.range(0, 3), 0, tracker));
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> TopK.partialSort(new int[3], 4, tracker));
+        assertThrows(IllegalArgumentException.class, () -> TopK.topK(new Integer[3], -1, tracker));
+        assertThrows(IllegalArgumentException.class, () -> TopK.topK((int[]) null, 0, tracker));
+    }
+}
@@ -0,0 +1,117 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArgSortTest {
+
+    /**
+     * Heavy record: only the key fields matter for ordering.
+     */
+    private static final class Record {
+        final int id;
+        final int group;
+        final long timestamp;
+        final double score;
+        final byte[] payload = new byte[64];
+
+        Record(int id, int group, long timestamp, double score) {
+            this.id = id;
+            this.group = group;
+            this.timestamp = timestamp;
+            this.score = score;
+        }
+    }
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testStableArgsortKeepsInputOrderOfEqualKeys() {
+        Record[] records = generateRecords(20_000);
+        Record[] expected = records.clone();
+        Arrays.sort(expected, Comparator.comparingInt(r -> r.group)); // stable
+
+        int[] perm = ArgSort.argsortByInt(records, r -> r.group, true, tracker);
+        for (int i = 0; i < records.length; i++) {
+            assertSame(expected[i], records[perm[i]], "position " + i);
+        }
+    }
+
+    @Test
+    void testUnstableArgsortOrdersKeys() {
+        Record[] records = generateRecords(20_000);
+        int[] perm = ArgSort.argsortByLong(records, r -> r.timestamp, false, tracker);
+
+        boolean[] seen = new boolean[records.length];
+        for (int i = 0; i < perm.length; i++) {
+            assertFalse(seen[perm[i]], "permutation repeats " + perm[i]);
+            seen[perm[i]] = true;
+            if (i > 0) assertTrue(records[perm[i - 1]].timestamp <= records[perm[i]].timestamp);
+        }
+    }
+
+    @Test
+    void testDoubleKeysFollowDoubleCompare() {
+        Record[] records = generateRecords(1000);
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1e-300};
+        for (int i = 0; i < specials.length; i++) records[i] = new Record(i, 0, 0, specials[i]);
+
+        for (boolean stable : new boolean[]{true, false}) {
+            Record[] sorted = records.clone();
+            ArgSort.sortByDouble(sorted, r -> r.score, stable, tracker);
+            for (int i = 1; i < sorted.length; i++) {
+                assertTrue(Double.compare(sorted[i - 1].score, sorted[i].score) <= 0, "stable=" + stable);
+            }
+        }
+    }
+
+    @Test
+    void testSortByIntMovesRecordsInPlace() {
+        Record[] records = generateRecords(10_000);
+        Record[] expected = records.clone();
+        Arrays.sort(expected, Comparator.comparingInt(r -> r.group));
+
+        ArgSort.sortByInt(records, r -> r.group, true, tracker);
+        for (int i = 0; i < records.length; i++) assertSame(expected[i], records[i]);
+    }
+
+    @Test
+    void testApplyPermutationRestoresPerm() {
+        String[] arr = {"a", "b", "c", "d", "e"};
+        int[] perm = {3, 0, 4, 1, 2};
+        ArgSort.applyPermutation(arr, perm, tracker);
+
+        assertArrayEquals(new String[]{"d", "a", "e", "b", "c"}, arr);
+        assertArrayEquals(new int[]{3, 0, 4, 1, 2}, perm);
+        assertThrows(IllegalArgumentException.class,
+                () -> ArgSort.applyPermutation(arr, new int[]{0}, tracker));
+    }
+
+    @Test
+    void testEmptyAndInvalid() {
+        assertArrayEquals(new int[0], ArgSort.argsortByInt(new Record[0], r -> r.id, true, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> ArgSort.argsortByInt(null, (Record r) -> r.id, false, tracker));
+    }
+
+    private Record[] generateRecords(int size) {
+        Random rand = new Random();
+        Record[] records = new Record[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = new Record(i, rand.nextInt(50), rand.nextLong(), rand.nextGaussian());
+        }
+        return records;
+    }
+}
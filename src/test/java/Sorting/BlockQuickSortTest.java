@@ -0,0 +1,129 @@
+package Sorting;
+
+import org.Util.BlockPartition;
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockQuickSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortPrimitiveInt() {
+        Random rand = new Random();
+        for (int bound : new int[]{1, 2, 10, 1000, Integer.MAX_VALUE}) {
+            int[] arr = rand.ints(50_000, 0, bound).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            BlockQuickSort.sort(arr, tracker);
+            assertArrayEquals(expected, arr, "bound " + bound);
+        }
+    }
+
+    @Test
+    void testSortPrimitiveLong() {
+        long[] arr = new Random().longs(50_000).toArray();
+        arr[0] = Long.MIN_VALUE;
+        arr[1] = Long.MAX_VALUE;
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        BlockQuickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testExtremeValues() {
+        int[] arr = new Random().ints(10_000, 0, 3).map(v -> v == 0 ? Integer.MIN_VALUE
+                : v == 1 ? Integer.MAX_VALUE : 0).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        BlockQuickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortedAndReverseSorted() {
+        int[] sorted = new int[5000];
+        int[] reversed = new int[5000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - 1 - i;
+        }
+
+        BlockQuickSort.sort(sorted, tracker);
+        BlockQuickSort.sort(reversed, tracker);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i, sorted[i]);
+            assertEquals(i, reversed[i]);
+        }
+    }
+
+    @Test
+    void testDepthBound() {
+        int[] arr = new Random().ints(100_000).toArray();
+        BlockQuickSort.sort(arr, tracker);
+        double log2n = Math.log(arr.length) / Math.log(2);
+        assertTrue(tracker.getMaxDepth() <= 2 * log2n + 10, "Depth: " + tracker.getMaxDepth());
+    }
+
+    @Test
+    void testBlockThreeWayPartition() {
+        Random rand = new Random();
+        int[] arr = rand.ints(10_000, 0, 50).toArray();
+        int[] before = arr.clone();
+        int pivot = 25;
+
+        long bounds = BlockPartition.threeWayPartition(arr, 100, arr.length - 101, pivot, tracker);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        for (int i = 100; i < lt; i++) assertTrue(arr[i] < pivot);
+        for (int i = lt; i <= gt; i++) assertEquals(pivot, arr[i]);
+        for (int i = gt + 1; i <= arr.length - 101; i++) assertTrue(arr[i] > pivot);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(before[i], arr[i]);
+            assertEquals(before[arr.length - 1 - i], arr[arr.length - 1 - i]);
+        }
+
+        int[] sortedBefore = before.clone(), sortedAfter = arr.clone();
+        Arrays.sort(sortedBefore);
+        Arrays.sort(sortedAfter);
+        assertArrayEquals(sortedBefore, sortedAfter);
+    }
+
+    @Test
+    void testBlockPartitionAbsentPivot() {
+        long[] arr = new Random().longs(5_000, 0, 1000).map(v -> 2 * v).toArray();
+        long bounds = BlockPartition.threeWayPartition(arr, 0, arr.length - 1, 999L, tracker);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        assertEquals(lt - 1, gt);
+        for (int i = 0; i < lt; i++) assertTrue(arr[i] < 999L);
+        for (int i = lt; i < arr.length; i++) assertTrue(arr[i] > 999L);
+        assertTrue(tracker.getComparisons() >= arr.length);
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        int[] empty = new int[0];
+        BlockQuickSort.sort(empty, tracker);
+        assertArrayEquals(new int[0], empty);
+
+        long[] single = {42L};
+        BlockQuickSort.sort(single, tracker);
+        assertArrayEquals(new long[]{42L}, single);
+    }
+}
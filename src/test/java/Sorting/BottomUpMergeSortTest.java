@@ -0,0 +1,66 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BottomUpMergeSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArrays() {
+        Random rand = new Random();
+        // sizes around block and power-of-two boundaries exercise both odd and even pass counts
+        for (int size : new int[]{2, 15, 16, 17, 33, 64, 100, 1000, 4097}) {
+            Integer[] arr = new Integer[size];
+            for (int i = 0; i < size; i++) arr[i] = rand.nextInt(1000);
+            Integer[] expected = Arrays.copyOf(arr, size);
+            Arrays.sort(expected);
+
+            BottomUpMergeSort.sort(arr, tracker);
+            assertArrayEquals(expected, arr, "size " + size);
+        }
+    }
+
+    @Test
+    void testSortPrimitiveInt() {
+        int[] arr = new Random().ints(10_000, -1000, 1000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        BottomUpMergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testNoRecursion() {
+        int[] arr = new Random().ints(10_000).toArray();
+        BottomUpMergeSort.sort(arr, tracker);
+
+        assertEquals(0, tracker.getMaxDepth());
+        assertEquals(1, tracker.getAllocations());
+        assertTrue(tracker.getComparisons() > 0);
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        Integer[] empty = new Integer[0];
+        BottomUpMergeSort.sort(empty, tracker);
+        assertArrayEquals(new Integer[0], empty);
+
+        int[] single = {42};
+        BottomUpMergeSort.sort(single, tracker);
+        assertArrayEquals(new int[]{42}, single);
+    }
+}
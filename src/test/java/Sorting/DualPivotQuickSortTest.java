@@ -0,0 +1,88 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DualPivotQuickSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArray() {
+        Integer[] arr = generateRandomArray(10_000);
+        Integer[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        DualPivotQuickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortPrimitiveInt() {
+        Random rand = new Random();
+        for (int bound : new int[]{2, 10, 1000, Integer.MAX_VALUE}) {
+            int[] arr = rand.ints(20_000, 0, bound).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            DualPivotQuickSort.sort(arr, tracker);
+            assertArrayEquals(expected, arr, "bound " + bound);
+        }
+    }
+
+    @Test
+    void testSortedAndReverseSorted() {
+        int[] sorted = new int[5000];
+        int[] reversed = new int[5000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        int[] expectedReversed = reversed.clone();
+        Arrays.sort(expectedReversed);
+
+        DualPivotQuickSort.sort(sorted, tracker);
+        DualPivotQuickSort.sort(reversed, tracker);
+        for (int i = 0; i < sorted.length; i++) assertEquals(i, sorted[i]);
+        assertArrayEquals(expectedReversed, reversed);
+    }
+
+    @Test
+    void testDepthBound() {
+        int[] arr = new Random().ints(100_000).toArray();
+        DualPivotQuickSort.sort(arr, tracker);
+        double log2n = Math.log(arr.length) / Math.log(2);
+        assertTrue(tracker.getMaxDepth() <= 2 * log2n + 10, "Depth: " + tracker.getMaxDepth());
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        Integer[] empty = new Integer[0];
+        DualPivotQuickSort.sort(empty, tracker);
+        assertArrayEquals(new Integer[0], empty);
+
+        int[] single = {42};
+        DualPivotQuickSort.sort(single, tracker);
+        assertArrayEquals(new int[]{42}, single);
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,101 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalSortTest {
+
+    private MetricsTracker tracker;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testMultiPassMerge() throws IOException {
+        int[] data = new Random().ints(100_000).toArray();
+        Path input = writeInts(data, "input.bin");
+        Path output = tempDir.resolve("output.bin");
+
+        // 100 runs with fan-in 4 → 4 merge passes
+        ExternalSort.sort(input, output, 1000, 4, tracker);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(100, tracker.getRuns());
+        assertEquals(4, tracker.getPasses());
+        assertTrue(tracker.getSpillBytes() > 3L * data.length * 4, "Initial runs plus intermediate passes are spilled");
+    }
+
+    @Test
+    void testSinglePassWithUnevenLastRun() throws IOException {
+        int[] data = new Random().ints(10_123, 0, 50).toArray();
+        Path input = writeInts(data, "input.bin");
+        Path output = tempDir.resolve("output.bin");
+
+        ExternalSort.sort(input, output, 1000, ExternalSort.DEFAULT_FAN_IN, tracker);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(11, tracker.getRuns());
+        assertEquals(1, tracker.getPasses());
+        assertEquals(4L * data.length, tracker.getSpillBytes());
+    }
+
+    @Test
+    void testFitsInMemory() throws IOException {
+        int[] data = new Random().ints(5000).toArray();
+        Path input = writeInts(data, "input.bin");
+        Path output = tempDir.resolve("output.bin");
+
+        ExternalSort.sort(input, output, tracker);
+
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(0, tracker.getSpillBytes());
+        assertEquals(0, tracker.getPasses());
+    }
+
+    @Test
+    void testInvalidInput() throws IOException {
+        Path input = tempDir.resolve("odd.bin");
+        Files.write(input, new byte[]{1, 2, 3});
+        Path output = tempDir.resolve("output.bin");
+
+        assertThrows(IllegalArgumentException.class, () -> ExternalSort.sort(input, output, tracker));
+        assertThrows(IllegalArgumentException.class, () -> ExternalSort.sort(input, output, 10, 1, tracker));
+    }
+
+    private Path writeInts(int[] data, String name) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(data.length * Integer.BYTES);
+        bytes.asIntBuffer().put(data);
+        Path file = tempDir.resolve(name);
+        Files.write(file, bytes.array());
+        return file;
+    }
+
+    private int[] readInts(Path file) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] data = new int[bytes.remaining() / Integer.BYTES];
+        bytes.asIntBuffer().get(data);
+        return data;
+    }
+}
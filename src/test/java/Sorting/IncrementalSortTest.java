@@ -0,0 +1,78 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testFullIterationIsSorted() {
+        Random rand = new Random();
+        for (int bound : new int[]{1, 3, 1000, Integer.MAX_VALUE}) {
+            int[] arr = rand.ints(30_000, 0, bound).toArray();
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            PrimitiveIterator.OfInt it = IncrementalSort.iterator(arr, tracker);
+            for (int i = 0; i < expected.length; i++) {
+                assertTrue(it.hasNext());
+                assertEquals(expected[i], it.nextInt(), "bound " + bound + ", i " + i);
+            }
+            assertFalse(it.hasNext());
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    void testBoxedIterator() {
+        Integer[] arr = new Integer[5000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) arr[i] = rand.nextInt(100);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Iterator<Integer> it = IncrementalSort.iterator(arr, tracker);
+        int i = 0;
+        while (it.hasNext()) assertEquals(expected[i++], it.next());
+        assertEquals(expected.length, i);
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testFirstKCheaperThanFullSort() {
+        int[] arr = new Random().ints(200_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        MetricsTracker full = new MetricsTracker();
+        QuickSort.sort(arr.clone(), full);
+
+        PrimitiveIterator.OfInt it = IncrementalSort.iterator(arr, tracker);
+        for (int i = 0; i < 300; i++) assertEquals(expected[i], it.nextInt());
+        assertTrue(tracker.getComparisons() < full.getComparisons() / 3,
+                tracker.getComparisons() + " vs " + full.getComparisons());
+    }
+
+    @Test
+    void testEmptyAndInvalid() {
+        assertFalse(IncrementalSort.iterator(new int[0], tracker).hasNext());
+        assertThrows(NoSuchElementException.class, () -> IncrementalSort.iterator(new int[0], tracker).nextInt());
+        assertThrows(IllegalArgumentException.class, () -> IncrementalSort.iterator((int[]) null, tracker));
+    }
+}
@@ -0,0 +1,113 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntroSortTest {
+
+    private static final int N = 100_000;
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArray() {
+        Integer[] arr = generateRandomArray(10_000);
+        Integer[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        IntroSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortedInputIsNearLinear() {
+        int[] arr = new int[N];
+        for (int i = 0; i < N; i++) arr[i] = i;
+
+        IntroSort.sort(arr, tracker);
+        assertSorted(arr);
+        assertTrue(tracker.getComparisons() < 4L * N, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testReverseSortedInputIsNearLinear() {
+        int[] arr = new int[N];
+        for (int i = 0; i < N; i++) arr[i] = N - i;
+
+        IntroSort.sort(arr, tracker);
+        assertSorted(arr);
+        assertTrue(tracker.getComparisons() < 4L * N, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testAdversarialPatternsStayNLogN() {
+        double bound = 4 * N * Math.log(N) / Math.log(2);
+        for (int[] arr : adversarialInputs()) {
+            MetricsTracker local = new MetricsTracker();
+            IntroSort.sort(arr, local);
+            assertSorted(arr);
+            assertTrue(local.getComparisons() < bound, "Comparisons: " + local.getComparisons());
+        }
+    }
+
+    @Test
+    void testAllEqual() {
+        Integer[] arr = new Integer[10_000];
+        Arrays.fill(arr, 7);
+
+        IntroSort.sort(arr, tracker);
+        for (Integer value : arr) assertEquals(7, value);
+        assertTrue(tracker.getComparisons() < 4L * arr.length, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        Integer[] empty = new Integer[0];
+        IntroSort.sort(empty, tracker);
+        assertArrayEquals(new Integer[0], empty);
+
+        int[] single = {42};
+        IntroSort.sort(single, tracker);
+        assertArrayEquals(new int[]{42}, single);
+    }
+
+    private int[][] adversarialInputs() {
+        int[] organPipe = new int[N];
+        int[] sawtooth = new int[N];
+        int[] fewDistinct = new Random().ints(N, 0, 4).toArray();
+        int[] sortedWithNoise = new int[N];
+        Random rand = new Random();
+        for (int i = 0; i < N; i++) {
+            organPipe[i] = i < N / 2 ? i : N - i;
+            sawtooth[i] = i % 1000;
+            sortedWithNoise[i] = rand.nextInt(100) == 0 ? rand.nextInt(N) : i;
+        }
+        return new int[][]{organPipe, sawtooth, fewDistinct, sortedWithNoise};
+    }
+
+    private void assertSorted(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            assertTrue(arr[i - 1] <= arr[i], "Unsorted at " + i);
+        }
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
@@ -100,4 +100,24 @@ class MetricsTrackerTest {
         assertEquals(0, tracker.getComparisons(), "Comparisons should be reset to 0");
         assertEquals(0, tracker.getMaxDepth(), "Max depth should be reset to 0");
     }
+
+    @Test
+    void testMergeFrom() {
+        tracker.enterRecursion();
+        MetricsTracker child = new MetricsTracker();
+        child.incComparison();
+        child.incAllocation();
+        child.addBytesMoved(64);
+        child.enterRecursion();
+        child.enterRecursion();
+        child.exitRecursion();
+        child.exitRecursion();
+
+        tracker.mergeFrom(child);
+        tracker.exitRecursion();
+        assertEquals(1, tracker.getComparisons());
+        assertEquals(1, tracker.getAllocations());
+        assertEquals(64, tracker.getBytesMoved());
+        assertEquals(3, tracker.getMaxDepth(), "Child depth stacks on the parent's current depth");
+    }
 }
\ No newline at end of file
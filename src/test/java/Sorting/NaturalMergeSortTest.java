@@ -0,0 +1,140 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaturalMergeSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArray() {
+        Integer[] arr = generateRandomArray(10_000);
+        Integer[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        NaturalMergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+        assertTrue(tracker.getRuns() > 1);
+    }
+
+    @Test
+    void testSortedInputIsLinear() {
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++) arr[i] = i;
+
+        NaturalMergeSort.sort(arr, tracker);
+        assertEquals(1, tracker.getRuns());
+        assertEquals(arr.length - 1, tracker.getComparisons());
+    }
+
+    @Test
+    void testReverseInputIsOneRun() {
+        Integer[] arr = new Integer[10_000];
+        for (int i = 0; i < arr.length; i++) arr[i] = arr.length - i;
+
+        NaturalMergeSort.sort(arr, tracker);
+        assertEquals(1, tracker.getRuns());
+        for (int i = 0; i < arr.length; i++) assertEquals(i + 1, arr[i]);
+    }
+
+    @Test
+    void testNearlySortedInput() {
+        int n = 100_000;
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) arr[i] = i;
+        Random rand = new Random();
+        for (int s = 0; s < 10; s++) {
+            int i = rand.nextInt(n), j = rand.nextInt(n);
+            int tmp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = tmp;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        NaturalMergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+        assertTrue(tracker.getComparisons() < 3L * n, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testAppendOnlyBlocks() {
+        // ascending blocks of random length, as produced by concatenated sorted logs
+        int[] arr = new int[50_000];
+        Random rand = new Random();
+        int i = 0;
+        while (i < arr.length) {
+            int len = Math.min(arr.length - i, 100 + rand.nextInt(5000));
+            int start = rand.nextInt(1000);
+            for (int k = 0; k < len; k++) arr[i + k] = start + k;
+            i += len;
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        NaturalMergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testStability() {
+        KeyedItem[] arr = new KeyedItem[5000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = new KeyedItem(rand.nextInt(10), i);
+        }
+        NaturalMergeSort.sort(arr, tracker);
+        for (int i = 1; i < arr.length; i++) {
+            assertTrue(arr[i - 1].key <= arr[i].key);
+            if (arr[i - 1].key == arr[i].key) {
+                assertTrue(arr[i - 1].seq < arr[i].seq, "Unstable at " + i);
+            }
+        }
+    }
+
+    @Test
+    void testTinyArrays() {
+        int[] empty = new int[0];
+        NaturalMergeSort.sort(empty, tracker);
+        assertEquals(0, empty.length);
+
+        Integer[] two = {2, 1};
+        NaturalMergeSort.sort(two, tracker);
+        assertArrayEquals(new Integer[]{1, 2}, two);
+    }
+
+    private static final class KeyedItem implements Comparable<KeyedItem> {
+        final int key, seq;
+
+        KeyedItem(int key, int seq) {
+            this.key = key;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(KeyedItem other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
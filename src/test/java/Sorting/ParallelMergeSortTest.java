@@ -0,0 +1,95 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArray() {
+        Integer[] arr = generateRandomArray(50_000);
+        Integer[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        ParallelMergeSort.sort(arr, 64, tracker);
+        assertArrayEquals(expected, arr);
+        assertEquals(1, tracker.getAllocations(), "Only the shared buffer is allocated");
+    }
+
+    @Test
+    void testSortPrimitiveInt() {
+        int[] arr = new Random().ints(100_000, 0, 1000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelMergeSort.sort(arr, 128, tracker);
+        assertArrayEquals(expected, arr);
+        assertTrue(tracker.getComparisons() > 0);
+        assertTrue(tracker.getMaxDepth() > 0);
+    }
+
+    @Test
+    void testStability() {
+        // Items compare by key only; original order must survive among equal keys
+        KeyedItem[] arr = new KeyedItem[5000];
+        Random rand = new Random();
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = new KeyedItem(rand.nextInt(10), i);
+        }
+        ParallelMergeSort.sort(arr, 1, tracker);
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1].key == arr[i].key) {
+                assertTrue(arr[i - 1].seq < arr[i].seq, "Unstable at " + i);
+            }
+        }
+    }
+
+    @Test
+    void testSmallThresholdAndTinyArrays() {
+        int[] tiny = {2, 1};
+        ParallelMergeSort.sort(tiny, 1, tracker);
+        assertArrayEquals(new int[]{1, 2}, tiny);
+
+        int[] empty = new int[0];
+        ParallelMergeSort.sort(empty, tracker);
+        assertEquals(0, empty.length);
+
+        assertThrows(IllegalArgumentException.class, () -> ParallelMergeSort.sort(new int[]{1}, 0, tracker));
+    }
+
+    private static final class KeyedItem implements Comparable<KeyedItem> {
+        final int key, seq;
+
+        KeyedItem(int key, int seq) {
+            this.key = key;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(KeyedItem other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
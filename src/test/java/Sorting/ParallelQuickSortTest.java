@@ -0,0 +1,91 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelQuickSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSortRandomArray() {
+        Integer[] arr = generateRandomArray(50_000);
+        Integer[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        ParallelQuickSort.sort(arr, 256, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortPrimitiveInt() {
+        int[] arr = new Random().ints(200_000, 0, 1_000_000).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelQuickSort.sort(arr, 512, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testMetricsAcrossWorkers() {
+        int n = 200_000;
+        int[] arr = new Random().ints(n).toArray();
+        ParallelQuickSort.sort(arr, 64, tracker);
+
+        double log2n = Math.log(n) / Math.log(2);
+        // randomized QuickSort does ~1.39 n log2 n comparisons; every worker's share must be counted
+        assertTrue(tracker.getComparisons() > n * log2n, "Comparisons: " + tracker.getComparisons());
+        assertTrue(tracker.getComparisons() < 4 * n * log2n, "Comparisons: " + tracker.getComparisons());
+        assertTrue(tracker.getMaxDepth() > log2n / 2, "Depth: " + tracker.getMaxDepth());
+        assertTrue(tracker.getMaxDepth() <= 4 * log2n + 10, "Depth: " + tracker.getMaxDepth());
+    }
+
+    @Test
+    void testConcurrentCallers() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        boolean[] ok = new boolean[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                int[] arr = new Random().ints(50_000).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                ParallelQuickSort.sort(arr, 128, new MetricsTracker());
+                ok[id] = Arrays.equals(expected, arr);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        for (boolean result : ok) assertTrue(result);
+    }
+
+    @Test
+    void testTinyArrays() {
+        int[] two = {2, 1};
+        ParallelQuickSort.sort(two, 1, tracker);
+        assertArrayEquals(new int[]{1, 2}, two);
+
+        assertThrows(IllegalArgumentException.class, () -> ParallelQuickSort.sort(new int[]{1}, 0, tracker));
+    }
+
+    private Integer[] generateRandomArray(int size) {
+        Random rand = new Random();
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        return arr;
+    }
+}
@@ -101,6 +101,65 @@ class QuickSortTest {
         assertArrayEquals(expected, arr);
     }
 
+    @Test
+    void testSortPrimitiveInt() {
+        int[] arr = new Random().ints(1000, -500, 500).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        quickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+        assertTrue(tracker.getComparisons() > 0);
+        assertTrue(tracker.getMaxDepth() > 0);
+    }
+
+    @Test
+    void testSortPrimitiveLong() {
+        long[] arr = new Random().longs(1000).toArray();
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        quickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortPrimitiveDouble() {
+        double[] arr = new Random().doubles(1000).toArray();
+        arr[0] = Double.NaN;
+        arr[1] = -0.0;
+        arr[2] = 0.0;
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        quickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testLowCardinalityIsNLogK() {
+        int n = 100_000, k = 4;
+        int[] arr = new Random().ints(n, 0, k).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        quickSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+        // fat-pivot partitioning: each distinct key is settled once, ~n log k comparisons
+        assertTrue(tracker.getComparisons() < 10L * n, "Comparisons: " + tracker.getComparisons());
+    }
+
+    @Test
+    void testAllEqualLarge() {
+        Integer[] arr = new Integer[50_000];
+        Arrays.fill(arr, 3);
+
+        quickSort.sort(arr, tracker);
+        for (Integer value : arr) assertEquals(3, value);
+        assertTrue(tracker.getComparisons() <= 2L * arr.length, "Comparisons: " + tracker.getComparisons());
+        assertTrue(tracker.getMaxDepth() <= 2, "Depth: " + tracker.getMaxDepth());
+    }
+
     private Integer[] generateRandomArray(int size) {
         Random rand = new Random();
         Integer[] arr = new Integer[size];
@@ -0,0 +1,99 @@
+package Sorting;
+
+import org.Util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testLsdAndMsdSignedInts() {
+        Random rand = new Random();
+        for (int bound : new int[]{1, 7, 1000, Integer.MAX_VALUE}) {
+            int[] arr = rand.ints(100_000, -bound, bound).toArray();
+            arr[0] = Integer.MIN_VALUE;
+            arr[1] = Integer.MAX_VALUE;
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            int[] lsd = arr.clone();
+            RadixSort.lsdSort(lsd, tracker);
+            assertArrayEquals(expected, lsd, "LSD bound " + bound);
+
+            int[] msd = arr.clone();
+            RadixSort.msdSort(msd, tracker);
+            assertArrayEquals(expected, msd, "MSD bound " + bound);
+        }
+    }
+
+    @Test
+    void testLsdAndMsdSignedLongs() {
+        long[] arr = new Random().longs(100_000).toArray();
+        arr[0] = Long.MIN_VALUE;
+        arr[1] = Long.MAX_VALUE;
+        arr[2] = 0L;
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        long[] lsd = arr.clone();
+        RadixSort.lsdSort(lsd, tracker);
+        assertArrayEquals(expected, lsd);
+
+        long[] msd = arr.clone();
+        RadixSort.msdSort(msd, tracker);
+        assertArrayEquals(expected, msd);
+    }
+
+    @Test
+    void testDoublesFollowDoubleCompareOrder() {
+        double[] arr = new Random().doubles(50_000, -1e6, 1e6).toArray();
+        double[] specials = {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+        System.arraycopy(specials, 0, arr, 0, specials.length);
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(arr, tracker);
+        for (int i = 0; i < arr.length; i++) {
+            assertEquals(0, Double.compare(expected[i], arr[i]), "index " + i);
+        }
+    }
+
+    @Test
+    void testPassesAndBytesMoved() {
+        // keys below 2^11 differ only in the lowest digit: the other two LSD passes are skipped
+        int[] arr = new Random().ints(10_000, 0, 1 << 11).toArray();
+        RadixSort.lsdSort(arr, tracker);
+        assertEquals(1, tracker.getPasses());
+        assertEquals(0, tracker.getComparisons());
+        assertEquals(2L * arr.length * Integer.BYTES, tracker.getBytesMoved()); // scatter + copy back
+
+        MetricsTracker full = new MetricsTracker();
+        RadixSort.lsdSort(new Random().ints(10_000).toArray(), full);
+        assertEquals(3, full.getPasses());
+        assertEquals(4L * 10_000 * Integer.BYTES, full.getBytesMoved());
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        int[] empty = new int[0];
+        RadixSort.sort(empty, tracker);
+        assertArrayEquals(new int[0], empty);
+
+        long[] single = {-5L};
+        RadixSort.sort(single, tracker);
+        assertArrayEquals(new long[]{-5L}, single);
+    }
+}
@@ -93,6 +93,41 @@ class MergeSortTest {
         assertArrayEquals(expected, arr);
     }
 
+    @Test
+    void testSortPrimitiveInt() {
+        int[] arr = new Random().ints(1000, -500, 500).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        mergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+        assertTrue(tracker.getComparisons() > 0);
+        assertTrue(tracker.getMaxDepth() > 0);
+    }
+
+    @Test
+    void testSortPrimitiveLong() {
+        long[] arr = new Random().longs(1000).toArray();
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        mergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    void testSortPrimitiveDouble() {
+        double[] arr = new Random().doubles(1000).toArray();
+        arr[0] = Double.NaN;
+        arr[1] = -0.0;
+        arr[2] = 0.0;
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        mergeSort.sort(arr, tracker);
+        assertArrayEquals(expected, arr);
+    }
+
     private Integer[] generateRandomArray(int size) {
         Random rand = new Random();
         Integer[] arr = new Integer[size];